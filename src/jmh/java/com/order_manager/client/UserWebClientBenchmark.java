@@ -0,0 +1,111 @@
+package com.order_manager.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Fetches a batch of users from a local stub that answers after {@code latencyMillis}, once with the
+ * blocking {@link UserWebClient#fetchUser} on a pool of platform threads and once with the reactive
+ * {@link UserWebClient#fetchUsers}, both at the same concurrency. Next to throughput, JMH reports the peak
+ * number of live JVM threads of each iteration as the {@code peakThreads} secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserWebClientBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"16", "64"})
+    private int concurrency;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private HttpServer server;
+    private UserWebClient userWebClient;
+    private ExecutorService blockingPool;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/users/", exchange -> {
+            var path = exchange.getRequestURI().getPath();
+            var id = path.substring(path.lastIndexOf('/') + 1);
+            var body = ("{\"id\": " + id + ", \"name\": \"Name_" + id + "\", \"email\": \"user@example.com\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        var webClient = WebClient.create("http://localhost:" + server.getAddress().getPort());
+        userWebClient = new UserWebClient(webClient, concurrency);
+        blockingPool = Executors.newFixedThreadPool(concurrency);
+        userIds = LongStream.rangeClosed(1, BATCH).boxed().toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        blockingPool.shutdownNow();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public int blocking(ThreadCounters counters) throws InterruptedException, ExecutionException {
+        var tasks = userIds.stream()
+                .map(id -> (Callable<Object>) () -> userWebClient.fetchUser(id))
+                .toList();
+        var fetched = 0;
+        for (var future : blockingPool.invokeAll(tasks)) {
+            future.get();
+            fetched++;
+        }
+        return fetched;
+    }
+
+    @Benchmark
+    public int reactive(ThreadCounters counters) {
+        return userWebClient.fetchUsers(Flux.fromIterable(userIds)).collectList().block().size();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCounters {
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        }
+
+        public int peakThreads() {
+            return ManagementFactory.getThreadMXBean().getPeakThreadCount();
+        }
+    }
+}
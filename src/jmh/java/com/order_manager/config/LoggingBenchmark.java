@@ -0,0 +1,110 @@
+package com.order_manager.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-path logging cost under contention: the three INFO lines a typical request writes
+ * (aspect launch, service message, aspect timing), from several threads at once. Like
+ * {@code logback-spring.xml}, every line goes to a console and a file appender; the console one
+ * writes to a temp file so the benchmark output stays readable. Modes: logging off, both appenders
+ * synchronous, both behind async appenders, and async with 1-in-10 sampling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String METHOD = "getOrdersByUsername";
+    private static final String USER = "Name_1";
+
+    @Param({"disabled", "sync", "async", "async-sampled"})
+    private String mode;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path consoleFile;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        consoleFile = Files.createTempFile("logging-benchmark-console", ".log");
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        var console = appender(fileAppender(consoleFile));
+        var file = appender(fileAppender(logFile));
+        if ("async-sampled".equals(mode)) {
+            var samplingFilter = new LogSamplingFilter();
+            samplingFilter.setContext(context);
+            samplingFilter.setRate(10);
+            samplingFilter.setLoggers("com.order_manager");
+            samplingFilter.start();
+            context.addTurboFilter(samplingFilter);
+        }
+
+        logger = context.getLogger("com.order_manager.service.OrderService");
+        logger.setAdditive(false);
+        logger.setLevel("disabled".equals(mode) ? Level.OFF : Level.INFO);
+        logger.addAppender(console);
+        logger.addAppender(file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(consoleFile);
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void requestLogging() {
+        logger.info("Method {} was launched", METHOD);
+        logger.info("Orders of user '{}' were retrieved from DB", USER);
+        logger.info("Method {} was executed in {} ms", METHOD, 3);
+    }
+
+    private FileAppender<ILoggingEvent> fileAppender(Path path) {
+        var encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5level --- [%thread] %logger{40} : %msg%n");
+        encoder.start();
+
+        var fileAppender = new FileAppender<ILoggingEvent>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(path.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+        return fileAppender;
+    }
+
+    private Appender<ILoggingEvent> appender(Appender<ILoggingEvent> target) {
+        if (!mode.startsWith("async")) {
+            return target;
+        }
+        var asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1024);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(target);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+}
@@ -0,0 +1,195 @@
+package com.order_manager.config;
+
+import com.order_manager.Application;
+import com.order_manager.security.JwtTokenProvider;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Load comparison of platform and virtual threads ({@code spring.threads.virtual.enabled}) on real
+ * requests. The application runs on a random port against PostgreSQL in Testcontainers, with the product
+ * catalog in remote mode pointing at a local stub that answers after {@code latencyMillis}. Each invocation
+ * sends {@code concurrency} requests at once and waits for all of them:
+ * <ul>
+ *     <li>{@code orders}: {@code GET /orders}, a JWT-authenticated page read over JDBC</li>
+ *     <li>{@code products}: {@code GET /products/{id}}, a blocking Feign call through the resilient catalog,
+ *     with coalescing off and the bulkhead opened up to the 200 pooled HTTP connections</li>
+ * </ul>
+ * The higher concurrency exceeds Tomcat's default 200 worker threads, so the platform pool runs at its
+ * maximum and excess requests queue; virtual threads are bounded by the connection pools instead. Next to
+ * throughput, JMH reports the peak number of live JVM threads of each iteration as {@code peakThreads}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class RequestLoadBenchmark {
+
+    private static final String USER_NAME = "Bench_user";
+    private static final int PRODUCTS = 100;
+    private static final int ORDERS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"64", "400"})
+    private int concurrency;
+
+    @Param({"20"})
+    private long latencyMillis;
+
+    private PostgreSQLContainer<?> postgres;
+    private HttpServer productService;
+    private ServletWebServerApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = new PostgreSQLContainer<>("postgres:17.4");
+        postgres.start();
+        productService = startProductService();
+
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        "product-catalog.mode=remote",
+                        "product-catalog.remote.url=http://localhost:" + productService.getAddress().getPort(),
+                        "product-catalog.remote.coalescing-window=0ms",
+                        "product-catalog.remote.timeouts.get-product=10s",
+                        "product-catalog.remote.bulkhead.max-concurrent-calls=200",
+                        "product-catalog.remote.bulkhead.max-wait=10s",
+                        "product-cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        fillTables(context.getBean(JdbcTemplate.class));
+
+        token = context.getBean(JwtTokenProvider.class)
+                .createToken(USER_NAME, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        baseUrl = "http://localhost:" + context.getWebServer().getPort();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+        productService.stop(0);
+        postgres.stop();
+    }
+
+    @Benchmark
+    public int orders(ThreadCounters counters) {
+        return sendAll(_ -> "/orders?size=10");
+    }
+
+    @Benchmark
+    public int products(ThreadCounters counters) {
+        return sendAll(i -> "/products/" + (i % PRODUCTS + 1));
+    }
+
+    private int sendAll(IntFunction<String> path) {
+        var responses = IntStream.range(0, concurrency)
+                .mapToObj(i -> httpClient.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + path.apply(i)))
+                                .header("Authorization", "Bearer " + token)
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding()))
+                .toList();
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        for (var response : responses) {
+            var status = response.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("Request failed with status " + status);
+            }
+        }
+        return responses.size();
+    }
+
+    private HttpServer startProductService() throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/products/", exchange -> {
+            var path = exchange.getRequestURI().getPath();
+            var id = path.substring(path.lastIndexOf('/') + 1);
+            var body = ("{\"id\": " + id + ", \"name\": \"Product_" + id + "\", \"price\": 1}")
+                    .getBytes(StandardCharsets.UTF_8);
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private static void fillTables(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (name, password, role, email) VALUES (?, 'Password', 'USER', ?)",
+                USER_NAME, "bench@example.com");
+        jdbcTemplate.update("""
+                INSERT INTO products (name, description, price)
+                SELECT 'Bench_product_' || i, 'Product Description', 1
+                FROM generate_series(1, ?) i
+                """, PRODUCTS);
+        jdbcTemplate.update("""
+                INSERT INTO orders (quantity, user_id, status, total_value)
+                SELECT 1, u.id, 'PENDING', 2
+                FROM generate_series(1, ?) i, users u
+                WHERE u.name = ?
+                """, ORDERS, USER_NAME);
+        jdbcTemplate.update("""
+                INSERT INTO order_products (order_id, product_id, line_no, quantity)
+                SELECT o.id, p.id, p.id - m.first_id, 1
+                FROM orders o, products p, (SELECT MIN(id) AS first_id FROM products) m
+                WHERE p.id < m.first_id + 2
+                """);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCounters {
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        }
+
+        public int peakThreads() {
+            return ManagementFactory.getThreadMXBean().getPeakThreadCount();
+        }
+    }
+}
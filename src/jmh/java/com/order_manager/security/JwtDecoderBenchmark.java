@@ -0,0 +1,64 @@
+package com.order_manager.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a full decode (parse + HMAC verification + claim validation) with a decode served
+ * from {@link CachingJwtDecoder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecoderBenchmark {
+
+    private static final byte[] SECRET = "benchmark-secret-key-that-is-at-least-32-chars".getBytes();
+
+    private JwtDecoder nimbusDecoder;
+    private JwtDecoder cachingDecoder;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        nimbusDecoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(SECRET, "HS256")).build();
+        cachingDecoder = new CachingJwtDecoder(nimbusDecoder, 10_000, Duration.ofMinutes(15));
+
+        var jwk = new OctetSequenceKey.Builder(SECRET).algorithm(JWSAlgorithm.HS256).build();
+        var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        var claims = JwtClaimsSet.builder()
+                .issuer("order-manager")
+                .subject("benchmark-user")
+                .claim(JwtTokenProvider.ROLES_CLAIM, List.of("ROLE_USER"))
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .build();
+        token = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(MacAlgorithm.HS256).build(), claims))
+                .getTokenValue();
+
+        cachingDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt coldDecode() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt warmDecode() {
+        return cachingDecoder.decode(token);
+    }
+}
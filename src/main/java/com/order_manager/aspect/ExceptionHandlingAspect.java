@@ -2,6 +2,8 @@ package com.order_manager.aspect;
 
 import com.order_manager.exception.ExternalServiceException;
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -9,14 +11,21 @@ import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
+@RequiredArgsConstructor
 public class ExceptionHandlingAspect {
 
+    private final MeterRegistry meterRegistry;
+
     @Around("com.order_manager.aspect.Pointcuts.allProductServiceMethods()")
     public Object aroundAllProductServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
             return joinPoint.proceed();
         } catch (FeignException e) {
-            throw new ExternalServiceException("FeignException in " + joinPoint.getSignature().getName());
+            var methodName = joinPoint.getSignature().getName();
+            meterRegistry.counter("exceptions.translated",
+                    "method", methodName,
+                    "status", String.valueOf(e.status())).increment();
+            throw new ExternalServiceException("FeignException in " + methodName);
         }
     }
 }
@@ -3,22 +3,26 @@ package com.order_manager.aspect;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "controller-logging.enabled", havingValue = "true")
 public class LoggingAspect {
 
     @Around("com.order_manager.aspect.Pointcuts.allControllerMethods()")
     public Object aroundAllControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
         var methodName = joinPoint.getSignature().getName();
         log.info("Method {} was launched", methodName);
-        var startTime = System.currentTimeMillis();
+        var startTime = System.nanoTime();
 
         try {
             var result = joinPoint.proceed();
-            log.info("Method {} was executed in {} ms", methodName, System.currentTimeMillis() - startTime);
+            log.info("Method {} was executed in {} ms", methodName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
             return result;
         } catch (Throwable e) {
             log.error("Method {} thrown an exception", methodName);
@@ -0,0 +1,89 @@
+package com.order_manager.aspect;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observes every controller, service and repository method. Each observation becomes a timer
+ * ({@code controller.invocations}, {@code service.invocations}, {@code repository.invocations})
+ * and a span named after the class and method. The timers are tagged with the class under
+ * {@code controller}/{@code service}/{@code repository}, the {@code method} and the {@code exception}
+ * thrown ({@code none} on success), the tags the previous {@code controller.invocations} timer had;
+ * the observation adds its own {@code error} tag. Runs outside the transaction advice, so a service
+ * span includes the Hibernate flush and commit. For reactive and streaming responses a controller
+ * observation covers building the response, not writing it.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ObservationAspect {
+
+    static final String CONTROLLER_OBSERVATION = "controller.invocations";
+    static final String SERVICE_OBSERVATION = "service.invocations";
+    static final String REPOSITORY_OBSERVATION = "repository.invocations";
+
+    private static final String APPLICATION_PACKAGE = "com.order_manager";
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("com.order_manager.aspect.Pointcuts.allControllerMethods()")
+    public Object aroundAllControllerMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(CONTROLLER_OBSERVATION, "controller",
+                joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("com.order_manager.aspect.Pointcuts.allServiceMethods()")
+    public Object aroundAllServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(SERVICE_OBSERVATION, "service",
+                joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("com.order_manager.aspect.Pointcuts.allRepositoryMethods()")
+    public Object aroundAllRepositoryMethods(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(REPOSITORY_OBSERVATION, "repository", repositoryName(joinPoint), joinPoint);
+    }
+
+    private Object observe(String name, String classKey, String className, ProceedingJoinPoint joinPoint)
+            throws Throwable {
+        var methodName = joinPoint.getSignature().getName();
+        var observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "." + methodName)
+                .lowCardinalityKeyValue(classKey, className)
+                .lowCardinalityKeyValue("method", methodName)
+                .lowCardinalityKeyValue("exception", "none")
+                .start();
+        try (var _ = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.lowCardinalityKeyValue("exception", e.getClass().getSimpleName());
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Inherited methods such as {@code save} are declared on Spring Data interfaces, so the
+     * repository is named after the application interface the proxy implements.
+     */
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        var proxy = joinPoint.getThis();
+        if (proxy != null) {
+            for (var type : proxy.getClass().getInterfaces()) {
+                if (type.getPackageName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
@@ -7,6 +7,12 @@ public class Pointcuts {
     @Pointcut("execution(* com.order_manager.controller..*.*(..))")
     public void allControllerMethods() {}
 
+    @Pointcut("execution(* com.order_manager.service..*.*(..))")
+    public void allServiceMethods() {}
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public void allRepositoryMethods() {}
+
     @Pointcut("execution(* com.order_manager.service.ProductService.*(..))")
     public void allProductServiceMethods() {}
 }
@@ -0,0 +1,50 @@
+package com.order_manager.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local stand-in for {@link RedisSharedCache}, used for tests and single-node setups.
+ */
+public class InMemorySharedCache implements SharedCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemorySharedCache() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemorySharedCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, clock.instant().plus(ttl)));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    private record Entry(String value, Instant expiresAt) {}
+}
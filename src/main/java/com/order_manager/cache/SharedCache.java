@@ -0,0 +1,16 @@
+package com.order_manager.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache tier shared between application nodes. Values are stored as serialized strings.
+ */
+public interface SharedCache {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value, Duration ttl);
+
+    void evict(String key);
+}
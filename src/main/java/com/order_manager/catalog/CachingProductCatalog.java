@@ -0,0 +1,246 @@
+package com.order_manager.catalog;
+
+import com.order_manager.cache.CacheStats;
+import com.order_manager.cache.LocalCache;
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache in front of another {@link ProductCatalog}, holding the full catalog snapshot
+ * and per-id products.
+ * <ul>
+ *     <li>Entries younger than {@code ttl - refreshAhead} are served as is.</li>
+ *     <li>Older entries are still served, but a background reload is started (refresh-ahead).</li>
+ *     <li>Past {@code ttl} the entry is reloaded synchronously; if the upstream fails, the old
+ *     value is served for up to {@code maxStale} longer.</li>
+ * </ul>
+ * Writes go straight to the delegate and invalidate the affected entries. Loads that started
+ * before a write are discarded so they cannot put pre-write data back.
+ */
+@Slf4j
+public class CachingProductCatalog implements ProductCatalog {
+
+    private static final String ALL_PRODUCTS = "all";
+
+    private final ProductCatalog delegate;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration refreshAfter;
+
+    private final LocalCache<Long, Cached<ProductDto>> products;
+    private final LocalCache<String, Cached<List<ProductDto>>> snapshot;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    public CachingProductCatalog(ProductCatalog delegate,
+                                 Executor refreshExecutor,
+                                 int maxSize,
+                                 Duration ttl,
+                                 Duration refreshAhead,
+                                 Duration maxStale,
+                                 Clock clock) {
+        this.delegate = delegate;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.refreshAfter = ttl.minus(refreshAhead);
+        this.products = new LocalCache<>(maxSize, ttl.plus(maxStale), clock);
+        this.snapshot = new LocalCache<>(1, ttl.plus(maxStale), clock);
+    }
+
+    @Override
+    public List<ProductDto> getAllProducts() {
+        return read(ALL_PRODUCTS, snapshot.get(ALL_PRODUCTS),
+                () -> Optional.of(delegate.getAllProducts()), this::storeSnapshot)
+                .orElseGet(List::of);
+    }
+
+    @Override
+    public Optional<ProductDto> getProduct(Long id) {
+        return read(id, products.get(id), () -> delegate.getProduct(id), this::storeProduct);
+    }
+
+    /**
+     * Serves fresh entries from the cache and loads the rest with one bulk call to the delegate.
+     */
+    @Override
+    public List<ProductDto> getProducts(Collection<Long> ids) {
+        var found = new LinkedHashMap<Long, ProductDto>();
+        var stale = new LinkedHashMap<Long, ProductDto>();
+        var missing = new ArrayList<Long>();
+        var now = clock.instant();
+
+        for (var id : ids.stream().distinct().toList()) {
+            var cached = products.get(id);
+            if (cached.isEmpty()) {
+                missing.add(id);
+                continue;
+            }
+            var age = Duration.between(cached.get().loadedAt(), now);
+            if (age.compareTo(ttl) < 0) {
+                if (age.compareTo(refreshAfter) >= 0) {
+                    refreshAsync(id, () -> delegate.getProduct(id), this::storeProduct);
+                }
+                found.put(id, cached.get().value());
+            } else {
+                stale.put(id, cached.get().value());
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            found.putAll(loadMissing(missing, stale));
+        }
+        return ids.stream().distinct().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Optional<ProductDto> createProduct(ProductInput input) {
+        var created = delegate.createProduct(input);
+        invalidate();
+        created.ifPresent(this::storeProduct);
+        return created;
+    }
+
+    @Override
+    public Optional<ProductDto> updateProduct(Long id, ProductInput input) {
+        var updated = delegate.updateProduct(id, input);
+        invalidate();
+        products.invalidate(id);
+        updated.ifPresent(this::storeProduct);
+        return updated;
+    }
+
+    @Override
+    public boolean deleteProduct(Long id) {
+        var deleted = delegate.deleteProduct(id);
+        invalidate();
+        products.invalidate(id);
+        return deleted;
+    }
+
+    public CacheStats getStats() {
+        return products.stats();
+    }
+
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    public long getStaleServed() {
+        return staleServed.sum();
+    }
+
+    private <V> Optional<V> read(Object key, Optional<Cached<V>> cached, Supplier<Optional<V>> loader, Consumer<V> store) {
+        if (cached.isPresent()) {
+            var age = Duration.between(cached.get().loadedAt(), clock.instant());
+            if (age.compareTo(ttl) < 0) {
+                if (age.compareTo(refreshAfter) >= 0) {
+                    refreshAsync(key, loader, store);
+                }
+                return Optional.of(cached.get().value());
+            }
+        }
+
+        try {
+            return load(loader, store);
+        } catch (RuntimeException e) {
+            if (cached.isEmpty()) {
+                throw e;
+            }
+            staleServed.increment();
+            log.warn("Product catalog unavailable, serving stale entry {}: {}", key, e.getMessage());
+            return Optional.of(cached.get().value());
+        }
+    }
+
+    private <V> Optional<V> load(Supplier<Optional<V>> loader, Consumer<V> store) {
+        var startGeneration = generation.get();
+        var loaded = loader.get();
+        if (generation.get() == startGeneration) {
+            loaded.ifPresent(store);
+        }
+        return loaded;
+    }
+
+    private Map<Long, ProductDto> loadMissing(List<Long> missing, Map<Long, ProductDto> stale) {
+        try {
+            var startGeneration = generation.get();
+            var loaded = delegate.getProducts(missing);
+            if (generation.get() == startGeneration) {
+                loaded.forEach(this::storeProduct);
+            }
+            return loaded.stream().collect(Collectors.toMap(ProductDto::id, Function.identity()));
+        } catch (RuntimeException e) {
+            if (stale.size() < missing.size()) {
+                throw e;
+            }
+            staleServed.add(stale.size());
+            log.warn("Product catalog unavailable, serving {} stale entries: {}", stale.size(), e.getMessage());
+            return stale;
+        }
+    }
+
+    private <V> void refreshAsync(Object key, Supplier<Optional<V>> loader, Consumer<V> store) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(loader, store);
+                    refreshes.increment();
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of product entry {} failed: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            log.warn("Background refresh of product entry {} was not scheduled: {}", key, e.getMessage());
+        }
+    }
+
+    private void storeProduct(ProductDto product) {
+        products.put(product.id(), new Cached<>(product, clock.instant()));
+    }
+
+    private void storeSnapshot(List<ProductDto> all) {
+        var now = clock.instant();
+        snapshot.put(ALL_PRODUCTS, new Cached<>(List.copyOf(all), now));
+        all.forEach(product -> products.put(product.id(), new Cached<>(product, now)));
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        snapshot.invalidateAll();
+    }
+
+    private record Cached<V>(V value, Instant loadedAt) {}
+}
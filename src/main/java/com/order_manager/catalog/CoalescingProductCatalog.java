@@ -0,0 +1,183 @@
+package com.order_manager.catalog;
+
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Merges single-id {@link #getProduct} lookups that arrive within {@code window} into one
+ * {@link ProductCatalog#getProducts} call on the delegate. Concurrent lookups of the same id share
+ * one result. A batch is flushed early once it reaches {@code maxBatchSize} ids, by the lookup that filled
+ * it. The scheduler thread only runs the timers: a timed flush hands the bulk call to a virtual thread, so
+ * a slow delegate doesn't hold back the next batch, and it runs with the context of the lookup that opened
+ * the batch, so the bulk call is traced under that request.
+ */
+@Slf4j
+public class CoalescingProductCatalog implements ProductCatalog, AutoCloseable {
+
+    private final ProductCatalog delegate;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService loader;
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    private Map<Long, CompletableFuture<Optional<ProductDto>>> pending = new HashMap<>();
+    /** Incremented whenever the pending batch is taken, so the timer of a batch flushed early does nothing. */
+    private long generation;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public CoalescingProductCatalog(ProductCatalog delegate, Duration window, int maxBatchSize) {
+        this.delegate = delegate;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("product-coalescer")
+                .daemon(true)
+                .factory());
+        this.loader = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("product-coalescer-load-", 0)
+                .factory());
+    }
+
+    @Override
+    public Optional<ProductDto> getProduct(Long id) {
+        lookups.increment();
+        CompletableFuture<Optional<ProductDto>> result;
+        Map<Long, CompletableFuture<Optional<ProductDto>>> fullBatch = null;
+
+        synchronized (this) {
+            result = pending.get(id);
+            if (result == null) {
+                result = new CompletableFuture<>();
+                pending.put(id, result);
+                if (pending.size() == 1) {
+                    var batchGeneration = generation;
+                    var snapshot = snapshotFactory.captureAll();
+                    scheduler.schedule(() -> flush(batchGeneration, snapshot), window.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                if (pending.size() >= maxBatchSize) {
+                    fullBatch = takePending();
+                }
+            }
+        }
+
+        if (fullBatch != null) {
+            load(fullBatch);
+        }
+        return await(result);
+    }
+
+    @Override
+    public List<ProductDto> getProducts(Collection<Long> ids) {
+        return delegate.getProducts(ids);
+    }
+
+    @Override
+    public List<ProductDto> getAllProducts() {
+        return delegate.getAllProducts();
+    }
+
+    @Override
+    public Optional<ProductDto> createProduct(ProductInput input) {
+        return delegate.createProduct(input);
+    }
+
+    @Override
+    public Optional<ProductDto> updateProduct(Long id, ProductInput input) {
+        return delegate.updateProduct(id, input);
+    }
+
+    @Override
+    public boolean deleteProduct(Long id) {
+        return delegate.deleteProduct(id);
+    }
+
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        Map<Long, CompletableFuture<Optional<ProductDto>>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        load(batch);
+        loader.close();
+    }
+
+    private void flush(long batchGeneration, ContextSnapshot snapshot) {
+        Map<Long, CompletableFuture<Optional<ProductDto>>> batch;
+        synchronized (this) {
+            if (generation != batchGeneration) {
+                return;
+            }
+            batch = takePending();
+        }
+        try {
+            loader.execute(snapshot.wrap(() -> load(batch)));
+        } catch (RejectedExecutionException e) {
+            load(batch);
+        }
+    }
+
+    private Map<Long, CompletableFuture<Optional<ProductDto>>> takePending() {
+        var batch = pending;
+        pending = new HashMap<>();
+        generation++;
+        return batch;
+    }
+
+    private void load(Map<Long, CompletableFuture<Optional<ProductDto>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batches.increment();
+        try {
+            var found = delegate.getProducts(batch.keySet()).stream()
+                    .collect(Collectors.toMap(ProductDto::id, Function.identity()));
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+        } catch (RuntimeException e) {
+            log.warn("Coalesced product lookup of {} ids failed: {}", batch.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static Optional<ProductDto> await(CompletableFuture<Optional<ProductDto>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
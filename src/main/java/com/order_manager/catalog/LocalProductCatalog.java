@@ -0,0 +1,71 @@
+package com.order_manager.catalog;
+
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+import com.order_manager.entity.DbProduct;
+import com.order_manager.mapper.ProductMapper;
+import com.order_manager.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class LocalProductCatalog implements ProductCatalog {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+
+    @Override
+    public List<ProductDto> getAllProducts() {
+        return productRepository.findAll().stream()
+                .map(productMapper::dbToDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProductDto> createProduct(ProductInput input) {
+        if (productRepository.existsByName(input.name())) {
+            return Optional.empty();
+        }
+        var dbProduct = new DbProduct(null, input.name(), input.description(), input.price());
+        return Optional.of(productMapper.dbToDto(productRepository.save(dbProduct)));
+    }
+
+    @Override
+    public Optional<ProductDto> getProduct(Long id) {
+        return productRepository.findById(id).map(productMapper::dbToDto);
+    }
+
+    @Override
+    public List<ProductDto> getProducts(Collection<Long> ids) {
+        return productRepository.findByIdIn(ids).stream()
+                .map(productMapper::dbToDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProductDto> updateProduct(Long id, ProductInput input) {
+        return productRepository.findById(id)
+                .map(dbProduct -> {
+                    dbProduct.setName(input.name());
+                    dbProduct.setDescription(input.description());
+                    dbProduct.setPrice(input.price());
+                    return productMapper.dbToDto(productRepository.save(dbProduct));
+                });
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteProduct(Long id) {
+        if (!productRepository.existsById(id)) {
+            return false;
+        }
+        productRepository.deleteById(id);
+        return true;
+    }
+}
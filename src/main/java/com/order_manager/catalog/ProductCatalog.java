@@ -0,0 +1,36 @@
+package com.order_manager.catalog;
+
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Source of product data for {@link com.order_manager.service.ProductService}. The local
+ * implementation reads the co-located database; the remote one calls a separate product service.
+ */
+public interface ProductCatalog {
+
+    List<ProductDto> getAllProducts();
+
+    /**
+     * @return the created product, or empty when a product with the same name already exists
+     */
+    Optional<ProductDto> createProduct(ProductInput input);
+
+    Optional<ProductDto> getProduct(Long id);
+
+    /**
+     * @return the products that exist among {@code ids}; unknown ids are left out
+     */
+    List<ProductDto> getProducts(Collection<Long> ids);
+
+    Optional<ProductDto> updateProduct(Long id, ProductInput input);
+
+    /**
+     * @return {@code false} when there was no product to delete
+     */
+    boolean deleteProduct(Long id);
+}
@@ -0,0 +1,68 @@
+package com.order_manager.catalog;
+
+import com.order_manager.client.ProductClient;
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Delegates to the product service over {@link ProductClient}. 404 and 409 responses are
+ * translated to the catalog's empty results; other Feign errors propagate.
+ */
+@RequiredArgsConstructor
+public class RemoteProductCatalog implements ProductCatalog {
+
+    private final ProductClient productClient;
+
+    @Override
+    public List<ProductDto> getAllProducts() {
+        return Optional.ofNullable(productClient.getAllProducts()).orElseGet(List::of);
+    }
+
+    @Override
+    public Optional<ProductDto> createProduct(ProductInput input) {
+        try {
+            return Optional.ofNullable(productClient.createProduct(input));
+        } catch (FeignException.Conflict e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<ProductDto> getProduct(Long id) {
+        try {
+            return Optional.ofNullable(productClient.getProduct(id));
+        } catch (FeignException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<ProductDto> getProducts(Collection<Long> ids) {
+        return Optional.ofNullable(productClient.getProducts(ids)).orElseGet(List::of);
+    }
+
+    @Override
+    public Optional<ProductDto> updateProduct(Long id, ProductInput input) {
+        try {
+            return Optional.ofNullable(productClient.updateProduct(id, input));
+        } catch (FeignException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean deleteProduct(Long id) {
+        try {
+            productClient.deleteProduct(id);
+            return true;
+        } catch (FeignException.NotFound e) {
+            return false;
+        }
+    }
+}
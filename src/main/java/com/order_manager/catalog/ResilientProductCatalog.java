@@ -0,0 +1,55 @@
+package com.order_manager.catalog;
+
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+import com.order_manager.resilience.ResilientCaller;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Guards every call to a remote catalog with {@link ResilientCaller}; reads may be hedged, writes
+ * never are.
+ */
+@RequiredArgsConstructor
+public class ResilientProductCatalog implements ProductCatalog {
+
+    private final ProductCatalog delegate;
+    private final ResilientCaller caller;
+    private final Timeouts timeouts;
+
+    @Override
+    public List<ProductDto> getAllProducts() {
+        return caller.callIdempotent("getAllProducts", timeouts.getAllProducts(), delegate::getAllProducts);
+    }
+
+    @Override
+    public Optional<ProductDto> getProduct(Long id) {
+        return caller.callIdempotent("getProduct", timeouts.getProduct(), () -> delegate.getProduct(id));
+    }
+
+    @Override
+    public List<ProductDto> getProducts(Collection<Long> ids) {
+        return caller.callIdempotent("getProducts", timeouts.getProducts(), () -> delegate.getProducts(ids));
+    }
+
+    @Override
+    public Optional<ProductDto> createProduct(ProductInput input) {
+        return caller.call("createProduct", timeouts.write(), () -> delegate.createProduct(input));
+    }
+
+    @Override
+    public Optional<ProductDto> updateProduct(Long id, ProductInput input) {
+        return caller.call("updateProduct", timeouts.write(), () -> delegate.updateProduct(id, input));
+    }
+
+    @Override
+    public boolean deleteProduct(Long id) {
+        return caller.call("deleteProduct", timeouts.write(), () -> delegate.deleteProduct(id));
+    }
+
+    public record Timeouts(Duration getProduct, Duration getProducts, Duration getAllProducts, Duration write) {}
+}
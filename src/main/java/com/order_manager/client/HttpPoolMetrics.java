@@ -0,0 +1,99 @@
+package com.order_manager.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Utilization of the outbound connection pools: the Apache pool behind Feign and the Reactor
+ * Netty pools behind {@code WebClient}, one per remote address. Each pool is also published as
+ * {@code http.client.pool.*} gauges tagged with the pool name.
+ */
+@Component
+public class HttpPoolMetrics implements ConnectionProvider.MeterRegistrar, MeterBinder {
+
+    private static final String FEIGN_POOL = "feign";
+
+    private final PoolingHttpClientConnectionManager feignConnectionManager;
+    private final Map<String, ConnectionPoolMetrics> webClientPools = new ConcurrentHashMap<>();
+    private final Map<String, List<Meter>> webClientMeters = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public HttpPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+        this.feignConnectionManager = feignConnectionManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        registerGauges(registry, FEIGN_POOL, this::feignStats);
+        webClientPools.forEach((pool, metrics) -> webClientMeters.computeIfAbsent(pool,
+                _ -> registerGauges(registry, pool, () -> webClientStats(pool, metrics))));
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        var pool = poolName + "/" + remoteAddress;
+        webClientPools.put(pool, metrics);
+        var registry = meterRegistry;
+        if (registry != null) {
+            webClientMeters.put(pool, registerGauges(registry, pool, () -> webClientStats(pool, metrics)));
+        }
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        var pool = poolName + "/" + remoteAddress;
+        webClientPools.remove(pool);
+        var meters = webClientMeters.remove(pool);
+        var registry = meterRegistry;
+        if (meters != null && registry != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    public List<HttpPoolStats> getStats() {
+        var stats = new ArrayList<HttpPoolStats>();
+        stats.add(feignStats());
+        webClientPools.forEach((pool, metrics) -> stats.add(webClientStats(pool, metrics)));
+        return stats;
+    }
+
+    private HttpPoolStats feignStats() {
+        var feign = feignConnectionManager.getTotalStats();
+        return new HttpPoolStats(FEIGN_POOL, feign.getLeased(), feign.getAvailable(), feign.getPending(), feign.getMax());
+    }
+
+    private static HttpPoolStats webClientStats(String pool, ConnectionPoolMetrics metrics) {
+        return new HttpPoolStats(pool, metrics.acquiredSize(), metrics.idleSize(),
+                metrics.pendingAcquireSize(), metrics.maxAllocatedSize());
+    }
+
+    private static List<Meter> registerGauges(MeterRegistry registry, String pool, Supplier<HttpPoolStats> stats) {
+        return List.of(
+                registerGauge(registry, "http.client.pool.leased", pool, stats, HttpPoolStats::leased),
+                registerGauge(registry, "http.client.pool.idle", pool, stats, HttpPoolStats::idle),
+                registerGauge(registry, "http.client.pool.pending", pool, stats, HttpPoolStats::pending),
+                registerGauge(registry, "http.client.pool.max", pool, stats, HttpPoolStats::max));
+    }
+
+    private static Meter registerGauge(MeterRegistry registry, String name, String pool,
+                                       Supplier<HttpPoolStats> stats, ToIntFunction<HttpPoolStats> value) {
+        return Gauge.builder(name, stats, s -> value.applyAsInt(s.get()))
+                .tag("pool", pool)
+                .register(registry);
+    }
+}
@@ -0,0 +1,3 @@
+package com.order_manager.client;
+
+public record HttpPoolStats(String pool, int leased, int idle, int pending, int max) {}
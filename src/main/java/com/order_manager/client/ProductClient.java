@@ -5,14 +5,18 @@ import com.order_manager.dto.ProductDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
 import java.util.List;
 
-@FeignClient(name = "product-service", url = "http://localhost:8080/")
+@FeignClient(name = "product-service", url = "${product-catalog.remote.url}")
 public interface ProductClient {
 
     @GetMapping("/products")
     List<ProductDto> getAllProducts();
 
+    @GetMapping(value = "/products", params = "ids")
+    List<ProductDto> getProducts(@RequestParam("ids") Collection<Long> ids);
+
     @PostMapping("/products")
     ProductDto createProduct(@RequestBody ProductInput request);
 
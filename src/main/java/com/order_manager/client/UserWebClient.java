@@ -2,47 +2,79 @@ package com.order_manager.client;
 
 import com.order_manager.dto.UserDto;
 import com.order_manager.dto.UserInput;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/**
+ * Remote user API. The {@code *Mono} and {@link #fetchUsers} methods are non-blocking and meant to be
+ * composed; the plain methods block the calling thread and remain for imperative callers. Those capture
+ * the caller's context before subscribing, so the request's observation parents the client span.
+ */
 @Service
-@RequiredArgsConstructor
 public class UserWebClient implements UserUrlTemplate {
 
     private final WebClient webClient;
+    private final int fetchConcurrency;
 
-    public UserDto fetchUser(Long userId) {
+    public UserWebClient(WebClient webClient, @Value("${webclient.fetch-concurrency}") int fetchConcurrency) {
+        this.webClient = webClient;
+        this.fetchConcurrency = fetchConcurrency;
+    }
+
+    public Mono<UserDto> fetchUserMono(Long userId) {
         return webClient.get()
                 .uri(USER_BY_ID, userId)
                 .retrieve()
-                .bodyToMono(UserDto.class)
-                .block();
+                .bodyToMono(UserDto.class);
     }
 
-    public UserDto createUser(UserInput userRequest) {
+    /**
+     * Fetches users with at most {@code webclient.fetch-concurrency} requests in flight; results
+     * arrive in completion order.
+     */
+    public Flux<UserDto> fetchUsers(Flux<Long> userIds) {
+        return userIds.flatMap(this::fetchUserMono, fetchConcurrency);
+    }
+
+    public Mono<UserDto> createUserMono(UserInput userRequest) {
         return webClient.post()
                 .uri(USERS)
                 .bodyValue(userRequest)
                 .retrieve()
-                .bodyToMono(UserDto.class)
-                .block();
+                .bodyToMono(UserDto.class);
     }
 
-    public UserDto updateUser(Long userId, UserInput userRequest) {
+    public Mono<UserDto> updateUserMono(Long userId, UserInput userRequest) {
         return webClient.put()
                 .uri(USER_BY_ID, userId)
                 .bodyValue(userRequest)
                 .retrieve()
-                .bodyToMono(UserDto.class)
-                .block();
+                .bodyToMono(UserDto.class);
     }
 
-    public void deleteUser(Long userId) {
-        webClient.delete()
+    public Mono<Void> deleteUserMono(Long userId) {
+        return webClient.delete()
                 .uri(USER_BY_ID, userId)
                 .retrieve()
-                .bodyToMono(Void.class)
-                .block();
+                .bodyToMono(Void.class);
+    }
+
+    public UserDto fetchUser(Long userId) {
+        return fetchUserMono(userId).contextCapture().block();
+    }
+
+    public UserDto createUser(UserInput userRequest) {
+        return createUserMono(userRequest).contextCapture().block();
+    }
+
+    public UserDto updateUser(Long userId, UserInput userRequest) {
+        return updateUserMono(userId, userRequest).contextCapture().block();
+    }
+
+    public void deleteUser(Long userId) {
+        deleteUserMono(userId).contextCapture().block();
     }
 }
@@ -1,31 +1,99 @@
 package com.order_manager.config;
 
 import com.order_manager.exception.AsyncExceptionHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    static final int PLATFORM_MAX_POOL_SIZE = 12;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${async.virtual.concurrency-limit}")
+    private int virtualConcurrencyLimit;
+
+    private final AtomicInteger activeVirtualTasks = new AtomicInteger();
+
+    /**
+     * The platform pool is a {@link ThreadPoolTaskExecutor}, which Spring Boot already publishes as
+     * {@code executor.*} metrics; the virtual executor has no pool, so its active tasks are counted here.
+     * Both carry the submitter's observation, and so its trace, over to the task.
+     */
     @Bean
     public Executor taskExecutor() {
+        var propagation = new ContextPropagatingTaskDecorator();
+        if (!virtualThreads) {
+            return platformThreadExecutor(propagation);
+        }
+        var executor = virtualThreadExecutor(virtualConcurrencyLimit);
+        executor.setTaskDecorator(task -> {
+            var propagated = propagation.decorate(task);
+            return () -> {
+                activeVirtualTasks.incrementAndGet();
+                try {
+                    propagated.run();
+                } finally {
+                    activeVirtualTasks.decrementAndGet();
+                }
+            };
+        });
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public MeterBinder virtualTaskExecutorMetrics() {
+        return registry -> {
+            Gauge.builder("executor.active", activeVirtualTasks, AtomicInteger::get)
+                    .tag("name", "taskExecutor")
+                    .register(registry);
+            Gauge.builder("executor.concurrency.limit", () -> virtualConcurrencyLimit)
+                    .tag("name", "taskExecutor")
+                    .register(registry);
+        };
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new AsyncExceptionHandler();
+    }
+
+    static ThreadPoolTaskExecutor platformThreadExecutor(TaskDecorator taskDecorator) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(6);
-        executor.setMaxPoolSize(12);
+        executor.setMaxPoolSize(PLATFORM_MAX_POOL_SIZE);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("AsyncThread-");
+        executor.setTaskDecorator(taskDecorator);
         executor.initialize();
         return executor;
     }
 
-    @Override
-    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
-        return new AsyncExceptionHandler();
+    /**
+     * One virtual thread per task. The concurrency limit replaces the pool's queue as backpressure:
+     * submitters block once it is reached instead of getting a TaskRejectedException.
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AsyncVThread-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
     }
 }
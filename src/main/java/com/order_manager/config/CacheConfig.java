@@ -0,0 +1,41 @@
+package com.order_manager.config;
+
+import com.order_manager.cache.InMemorySharedCache;
+import com.order_manager.cache.LocalCache;
+import com.order_manager.cache.RedisSharedCache;
+import com.order_manager.cache.SharedCache;
+import com.order_manager.dto.OrderDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${order-cache.local.max-size}")
+    private int orderCacheMaxSize;
+
+    @Value("${order-cache.local.ttl}")
+    private Duration orderCacheTtl;
+
+    @Bean
+    public LocalCache<Long, OrderDto> orderLocalCache() {
+        return new LocalCache<>(orderCacheMaxSize, orderCacheTtl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "order-cache.shared.type", havingValue = "redis")
+    public SharedCache redisSharedCache(StringRedisTemplate redisTemplate) {
+        return new RedisSharedCache(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "order-cache.shared.type", havingValue = "in-memory")
+    public SharedCache inMemorySharedCache() {
+        return new InMemorySharedCache();
+    }
+}
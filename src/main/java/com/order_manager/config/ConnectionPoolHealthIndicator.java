@@ -0,0 +1,53 @@
+package com.order_manager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Reports the Hikari pool as {@code connectionPool} on /actuator/health. The pool is SATURATED while
+ * no connection is idle and threads are queued for one; that is ordered between OUT_OF_SERVICE and UP
+ * and still maps to HTTP 200, so it flags the instance without taking it out of rotation.
+ */
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    public static final Status SATURATED = new Status("SATURATED", "Threads are waiting for a connection");
+
+    private final DataSource dataSource;
+
+    public ConnectionPoolHealthIndicator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Health health() {
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            return Health.unknown().withDetail("reason", "Not a Hikari pool").build();
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return Health.unknown().withDetail("reason", "Pool not started").build();
+        }
+
+        int idle = pool.getIdleConnections();
+        int waiting = pool.getThreadsAwaitingConnection();
+        Health.Builder builder = idle == 0 && waiting > 0 ? Health.status(SATURATED) : Health.up();
+        return builder
+                .withDetail("pool", hikari.getPoolName())
+                .withDetail("active", pool.getActiveConnections())
+                .withDetail("idle", idle)
+                .withDetail("waiting", waiting)
+                .withDetail("max", hikari.getMaximumPoolSize())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.order_manager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Advisory only: logs at startup when more platform threads could hold a connection at once than the pool
+ * has. Request threads, {@code @Async} tasks and the scheduler (outbox relay) all draw from the same pool,
+ * but with {@code open-in-view} off a request holds a connection only inside a transaction, so the thread
+ * count is an upper bound rather than an estimate; the shipped defaults exceed it on purpose. Whether the
+ * pool actually runs short shows in {@code hikaricp.connections.pending} and the {@code connectionPool}
+ * health component. Skipped with virtual threads, where no thread count bounds concurrency.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolSizeCheck {
+
+    private final DataSource dataSource;
+    private final boolean virtualThreads;
+    private final int threadDemand;
+
+    public ConnectionPoolSizeCheck(DataSource dataSource,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                   @Value("${server.tomcat.threads.max:200}") int tomcatMaxThreads,
+                                   @Value("${spring.task.scheduling.pool.size:1}") int schedulingPoolSize) {
+        this.dataSource = dataSource;
+        this.virtualThreads = virtualThreads;
+        this.threadDemand = tomcatMaxThreads + AsyncConfig.PLATFORM_MAX_POOL_SIZE + schedulingPoolSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        isUndersized();
+    }
+
+    boolean isUndersized() {
+        if (virtualThreads) {
+            return false;
+        }
+        int poolSize;
+        try {
+            poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            return false;
+        }
+        if (threadDemand <= poolSize) {
+            return false;
+        }
+        log.info("Up to {} request, async and scheduler threads share {} pooled connections; they only "
+                        + "hold one inside a transaction, so watch hikaricp.connections.pending before raising "
+                        + "spring.datasource.hikari.maximum-pool-size", threadDemand, poolSize);
+        return true;
+    }
+}
@@ -0,0 +1,145 @@
+package com.order_manager.config;
+
+import com.order_manager.datasource.ReadReplicaDataSource;
+import com.order_manager.datasource.ReadYourWritesGuard;
+import com.order_manager.datasource.TransactionWriteListener;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces Spring Boot's single pool with a primary pool plus read replicas. The application sees a
+ * {@link LazyConnectionDataSourceProxy}: it fetches the real connection on the first statement, once the
+ * transaction manager has marked it read-only or not, and takes read-only ones from the replicas.
+ * Hibernate reports entity writes to the {@link ReadYourWritesGuard} through a {@link TransactionWriteListener}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "read-replicas.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Value("${read-replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${read-replicas.max-lag}")
+    private Duration maxLag;
+
+    @Value("${read-replicas.read-your-writes.max-users}")
+    private int readYourWritesMaxUsers;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard() {
+        return new ReadYourWritesGuard(readYourWritesMaxUsers, maxLag);
+    }
+
+    @Bean
+    public TransactionWriteListener transactionWriteListener(EntityManagerFactory entityManagerFactory,
+                                                             ReadYourWritesGuard readYourWritesGuard) {
+        var listener = new TransactionWriteListener(readYourWritesGuard);
+        var listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, listener);
+        listeners.appendListeners(EventType.POST_UPDATE, listener);
+        listeners.appendListeners(EventType.POST_DELETE, listener);
+        return listener;
+    }
+
+    @Bean
+    public ReadReplicaDataSource readReplicaDataSource(HikariDataSource primaryDataSource,
+                                                       ReadYourWritesGuard readYourWritesGuard,
+                                                       MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            var pool = replicaPool(primaryDataSource, replicaUrls.get(i), i + 1, meterRegistry);
+            replicas.put(pool.getPoolName(), pool);
+        }
+        return new ReadReplicaDataSource(primaryDataSource, replicas, readYourWritesGuard, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicaDataSource readReplicaDataSource) {
+        var dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public HealthIndicator readReplicasHealthIndicator(ReadReplicaDataSource readReplicaDataSource) {
+        return () -> {
+            var health = Health.up();
+            readReplicaDataSource.getReplicaStates().forEach(replica -> health.withDetail(replica.name(),
+                    Map.of("healthy", replica.healthy(), "lagMs", replica.lag().toMillis())));
+            return health.build();
+        };
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplicaDataSource readReplicaDataSource) {
+        return registry -> {
+            FunctionCounter.builder("datasource.read.connections", readReplicaDataSource,
+                            ReadReplicaDataSource::getReplicaReads)
+                    .tag("target", "replica")
+                    .register(registry);
+            FunctionCounter.builder("datasource.read.connections", readReplicaDataSource,
+                            ReadReplicaDataSource::getPrimaryReads)
+                    .tag("target", "primary")
+                    .register(registry);
+            readReplicaDataSource.getReplicaStates().forEach(replica -> Gauge.builder("datasource.replica.healthy",
+                            () -> isHealthy(readReplicaDataSource, replica.name()) ? 1 : 0)
+                    .tag("pool", replica.name())
+                    .register(registry));
+        };
+    }
+
+    /**
+     * Same pool settings and driver properties as the primary. A replica that is down at startup
+     * does not fail the application; it stays out of rotation until a health check passes.
+     */
+    private static HikariDataSource replicaPool(HikariDataSource primary, String url, int index,
+                                                MeterRegistry meterRegistry) {
+        var config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setJdbcUrl(url);
+        config.setPoolName(primary.getPoolName() + "-replica-" + index);
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+
+    private static boolean isHealthy(ReadReplicaDataSource readReplicaDataSource, String name) {
+        return readReplicaDataSource.getReplicaStates().stream()
+                .anyMatch(replica -> replica.name().equals(name) && replica.healthy());
+    }
+}
@@ -1,9 +1,61 @@
 package com.order_manager.config;
 
-import org.springframework.context.annotation.Configuration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
 
+/**
+ * Feign runs on a pooled Apache HttpClient 5 instead of {@code HttpURLConnection}, so connections
+ * are kept alive and reused across calls. Responses are transparently gunzipped by the client.
+ */
 @Configuration
 @EnableFeignClients(basePackages = "com.order_manager.client")
 public class FeignConfig {
+
+    @Value("${http-client.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${http-client.max-connections}")
+    private int maxConnections;
+
+    @Value("${http-client.max-connections-per-route}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${http-client.max-idle-time}")
+    private Duration maxIdleTime;
+
+    @Value("${http-client.max-life-time}")
+    private Duration maxLifeTime;
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setTimeToLive(TimeValue.of(maxLifeTime))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(maxIdleTime))
+                .build();
+    }
 }
@@ -0,0 +1,44 @@
+package com.order_manager.config;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps exported spans in memory so tests can assert on them. Enabled by
+ * {@code tracing.in-memory-exporter.enabled}; not meant for production, as nothing is ever evicted.
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final Queue<SpanData> spans = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> batch) {
+        spans.addAll(batch);
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public List<SpanData> getFinishedSpans() {
+        return List.copyOf(spans);
+    }
+
+    public void reset() {
+        spans.clear();
+    }
+}
@@ -4,6 +4,7 @@ import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.OctetSequenceKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.order_manager.security.CachingJwtDecoder;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.*;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
 
 @Getter
 @Configuration
@@ -22,10 +24,16 @@ public class JwtConfig {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.token-cache.max-size}")
+    private int tokenCacheMaxSize;
+
+    @Value("${jwt.token-cache.ttl}")
+    private Duration tokenCacheTtl;
+
     @Bean
     public JwtDecoder jwtDecoder() {
         SecretKey key = new SecretKeySpec(secretKey.getBytes(), "HS256");
-        return NimbusJwtDecoder.withSecretKey(key).build();
+        return new CachingJwtDecoder(NimbusJwtDecoder.withSecretKey(key).build(), tokenCacheMaxSize, tokenCacheTtl);
     }
 
     @Bean
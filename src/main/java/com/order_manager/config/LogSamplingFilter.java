@@ -0,0 +1,60 @@
+package com.order_manager.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the events below WARN of roughly one in {@code rate} requests from the configured logger prefixes
+ * and drops the rest. The decision is derived from the trace id in the MDC, so all lines of a request are
+ * kept or dropped together (and the same requests are kept on every service the trace passes through);
+ * events logged outside a trace are sampled one by one. As a turbo filter it runs before Logback formats
+ * or allocates the event, so a dropped line costs an MDC lookup. WARN and above always pass.
+ * Configured in {@code logback-spring.xml}.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    /** MDC key Micrometer Tracing fills with the current trace id. */
+    static final String TRACE_ID_KEY = "traceId";
+
+    private int rate = 1;
+    private List<String> loggers = List.of();
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    /** Comma-separated logger name prefixes, e.g. {@code com.order_manager.service}. */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (rate <= 1 || level == null || level.isGreaterOrEqual(Level.WARN) || !isSampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        var traceId = MDC.get(TRACE_ID_KEY);
+        var draw = traceId == null ? ThreadLocalRandom.current().nextInt(rate) : Math.floorMod(traceId.hashCode(), rate);
+        return draw == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (var prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
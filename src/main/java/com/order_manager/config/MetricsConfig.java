@@ -0,0 +1,148 @@
+package com.order_manager.config;
+
+import com.order_manager.cache.CacheStats;
+import com.order_manager.catalog.CachingProductCatalog;
+import com.order_manager.catalog.CoalescingProductCatalog;
+import com.order_manager.catalog.ProductCatalog;
+import com.order_manager.notification.NotificationDispatcher;
+import com.order_manager.notification.NotificationStats;
+import com.order_manager.resilience.CircuitBreaker;
+import com.order_manager.resilience.ResilienceStats;
+import com.order_manager.resilience.ResilientCaller;
+import com.order_manager.security.CachingJwtDecoder;
+import com.order_manager.security.JwtPrincipalResolver;
+import com.order_manager.service.OrderCacheService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the counters our components already keep (caches, notification outbox, resilient
+ * callers, product catalog, virtual-thread pinning) as Micrometer meters. They are read on scrape,
+ * so the hot paths stay on plain LongAdders.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(OrderCacheService orderCacheService,
+                                    JwtPrincipalResolver jwtPrincipalResolver,
+                                    JwtDecoder jwtDecoder) {
+        return registry -> {
+            bindCache(registry, "orders.local", orderCacheService::getLocalStats);
+            bindCache(registry, "orders.shared", orderCacheService::getSharedStats);
+            bindCache(registry, "jwt.principals", jwtPrincipalResolver::getCacheStats);
+            if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+                bindCache(registry, "jwt.tokens", cachingJwtDecoder::getStats);
+            }
+        };
+    }
+
+    /**
+     * Principals taken from the token's roles claim; the lookups that go through the principal
+     * cache are counted by {@code cache.gets{cache=jwt.principals}}.
+     */
+    @Bean
+    public MeterBinder principalMetrics(JwtPrincipalResolver jwtPrincipalResolver) {
+        return registry -> FunctionCounter.builder("jwt.principals.resolved", jwtPrincipalResolver,
+                        JwtPrincipalResolver::getClaimResolutions)
+                .tag("source", "claims")
+                .register(registry);
+    }
+
+    /**
+     * Whichever product catalog decorators are configured: the product cache (local or remote source)
+     * and lookup coalescing (remote source only).
+     */
+    @Bean
+    public MeterBinder productCatalogMetrics(ObjectProvider<ProductCatalog> productCatalogs) {
+        return registry -> productCatalogs.orderedStream().forEach(catalog -> {
+            if (catalog instanceof CachingProductCatalog caching) {
+                bindCache(registry, "products", caching::getStats);
+                FunctionCounter.builder("product.cache.refreshes", caching, CachingProductCatalog::getRefreshes)
+                        .register(registry);
+                FunctionCounter.builder("product.cache.stale.served", caching, CachingProductCatalog::getStaleServed)
+                        .register(registry);
+            } else if (catalog instanceof CoalescingProductCatalog coalescing) {
+                FunctionCounter.builder("product.catalog.coalesced.lookups", coalescing,
+                                CoalescingProductCatalog::getLookups)
+                        .register(registry);
+                FunctionCounter.builder("product.catalog.coalesced.batches", coalescing,
+                                CoalescingProductCatalog::getBatches)
+                        .register(registry);
+            }
+        });
+    }
+
+    @Bean
+    public MeterBinder virtualThreadMetrics(ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> pinningMonitor.ifAvailable(monitor ->
+                FunctionCounter.builder("jvm.threads.virtual.pinned", monitor, VirtualThreadPinningMonitor::getPinnedEvents)
+                        .register(registry));
+    }
+
+    @Bean
+    public MeterBinder notificationMetrics(NotificationDispatcher notificationDispatcher) {
+        return registry -> {
+            bindNotifications(registry, notificationDispatcher, "sent", NotificationStats::sent);
+            bindNotifications(registry, notificationDispatcher, "retried", NotificationStats::retried);
+            bindNotifications(registry, notificationDispatcher, "abandoned", NotificationStats::abandoned);
+        };
+    }
+
+    @Bean
+    public MeterBinder resilienceMetrics(ObjectProvider<ResilientCaller> resilientCallers) {
+        return registry -> resilientCallers.orderedStream().forEach(caller -> {
+            bindCalls(registry, caller, "calls", ResilienceStats::calls);
+            bindCalls(registry, caller, "failures", ResilienceStats::failures);
+            bindCalls(registry, caller, "timeouts", ResilienceStats::timeouts);
+            bindCalls(registry, caller, "rejected.circuit.breaker", ResilienceStats::rejectedByCircuitBreaker);
+            bindCalls(registry, caller, "rejected.bulkhead", ResilienceStats::rejectedByBulkhead);
+            bindCalls(registry, caller, "hedges", ResilienceStats::hedges);
+            for (var state : CircuitBreaker.State.values()) {
+                Gauge.builder("resilience.circuit.breaker.state", caller,
+                                c -> c.getStats().circuitBreakerState() == state ? 1 : 0)
+                        .tag("name", caller.getName())
+                        .tag("state", state.name().toLowerCase())
+                        .register(registry);
+            }
+        });
+    }
+
+    private static void bindCache(MeterRegistry registry, String name, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().hits())
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", stats, s -> s.get().misses())
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", stats, s -> s.get().evictions())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", stats, s -> s.get().size())
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private static void bindNotifications(MeterRegistry registry, NotificationDispatcher dispatcher,
+                                          String result, ToLongFunction<NotificationStats> count) {
+        FunctionCounter.builder("notifications.dispatched", dispatcher, d -> count.applyAsLong(d.getStats()))
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void bindCalls(MeterRegistry registry, ResilientCaller caller,
+                                  String name, ToLongFunction<ResilienceStats> count) {
+        FunctionCounter.builder("resilience." + name, caller, c -> count.applyAsLong(c.getStats()))
+                .tag("name", caller.getName())
+                .register(registry);
+    }
+}
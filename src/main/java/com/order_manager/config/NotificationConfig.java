@@ -0,0 +1,39 @@
+package com.order_manager.config;
+
+import com.order_manager.notification.HttpNotificationTransport;
+import com.order_manager.notification.LoggingNotificationTransport;
+import com.order_manager.notification.NotificationTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class NotificationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.transport", havingValue = "http")
+    public NotificationTransport httpNotificationTransport(@Value("${notification.http.url}") String url,
+                                                           @Value("${notification.http.connect-timeout}") Duration connectTimeout,
+                                                           @Value("${notification.http.read-timeout}") Duration readTimeout) {
+        var requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return new HttpNotificationTransport(RestClient.builder()
+                .baseUrl(url)
+                .requestFactory(requestFactory)
+                .build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notification.transport", havingValue = "log", matchIfMissing = true)
+    public NotificationTransport loggingNotificationTransport() {
+        return new LoggingNotificationTransport();
+    }
+}
@@ -0,0 +1,17 @@
+package com.order_manager.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class OrderBatchConfig {
+
+    @Value("${order-batch.max-size}")
+    private int maxSize;
+
+    /** When set, one invalid order rejects the whole batch; otherwise the valid ones are still created. */
+    @Value("${order-batch.all-or-nothing}")
+    private boolean allOrNothing;
+}
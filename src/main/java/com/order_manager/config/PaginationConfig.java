@@ -0,0 +1,16 @@
+package com.order_manager.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class PaginationConfig {
+
+    @Value("${pagination.default-size}")
+    private int defaultSize;
+
+    @Value("${pagination.max-size}")
+    private int maxSize;
+}
@@ -0,0 +1,13 @@
+package com.order_manager.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Configuration
+public class ProductBulkConfig {
+
+    @Value("${product-catalog.bulk.max-ids}")
+    private int maxIds;
+}
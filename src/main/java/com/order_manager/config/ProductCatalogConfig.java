@@ -0,0 +1,129 @@
+package com.order_manager.config;
+
+import com.order_manager.catalog.CachingProductCatalog;
+import com.order_manager.catalog.CoalescingProductCatalog;
+import com.order_manager.catalog.LocalProductCatalog;
+import com.order_manager.catalog.ProductCatalog;
+import com.order_manager.catalog.RemoteProductCatalog;
+import com.order_manager.catalog.ResilientProductCatalog;
+import com.order_manager.client.ProductClient;
+import com.order_manager.mapper.ProductMapper;
+import com.order_manager.repository.ProductRepository;
+import com.order_manager.resilience.CircuitBreaker;
+import com.order_manager.resilience.ResilientCaller;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+@Configuration
+public class ProductCatalogConfig {
+
+    /**
+     * Qualifies the catalog that actually holds the data, as opposed to the cache in front of it.
+     */
+    public static final String SOURCE = "productCatalogSource";
+
+    @Value("${product-catalog.bulk.max-ids}")
+    private int bulkMaxIds;
+
+    @Value("${product-catalog.remote.coalescing-window}")
+    private Duration coalescingWindow;
+
+    @Value("${product-catalog.remote.timeouts.get-product}")
+    private Duration getProductTimeout;
+
+    @Value("${product-catalog.remote.timeouts.get-products}")
+    private Duration getProductsTimeout;
+
+    @Value("${product-catalog.remote.timeouts.get-all-products}")
+    private Duration getAllProductsTimeout;
+
+    @Value("${product-catalog.remote.timeouts.write}")
+    private Duration writeTimeout;
+
+    @Value("${product-catalog.remote.bulkhead.max-concurrent-calls}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${product-catalog.remote.bulkhead.max-wait}")
+    private Duration bulkheadMaxWait;
+
+    @Value("${product-catalog.remote.circuit-breaker.sliding-window-size}")
+    private int circuitBreakerWindowSize;
+
+    @Value("${product-catalog.remote.circuit-breaker.minimum-calls}")
+    private int circuitBreakerMinimumCalls;
+
+    @Value("${product-catalog.remote.circuit-breaker.failure-rate-threshold}")
+    private int circuitBreakerFailureRateThreshold;
+
+    @Value("${product-catalog.remote.circuit-breaker.open-duration}")
+    private Duration circuitBreakerOpenDuration;
+
+    @Value("${product-catalog.remote.circuit-breaker.half-open-probes}")
+    private int circuitBreakerHalfOpenProbes;
+
+    @Value("${product-catalog.remote.hedging.enabled}")
+    private boolean hedgingEnabled;
+
+    @Value("${product-catalog.remote.hedging.delay}")
+    private Duration hedgingDelay;
+
+    @Value("${product-cache.max-size}")
+    private int cacheMaxSize;
+
+    @Value("${product-cache.ttl}")
+    private Duration cacheTtl;
+
+    @Value("${product-cache.refresh-ahead}")
+    private Duration cacheRefreshAhead;
+
+    @Value("${product-cache.max-stale}")
+    private Duration cacheMaxStale;
+
+    @Bean
+    @Qualifier(SOURCE)
+    @ConditionalOnProperty(name = "product-catalog.mode", havingValue = "local", matchIfMissing = true)
+    public ProductCatalog localProductCatalog(ProductRepository productRepository, ProductMapper productMapper) {
+        return new LocalProductCatalog(productRepository, productMapper);
+    }
+
+    /**
+     * Remote calls go through the resilience layer. Single-id lookups are coalesced into bulk calls
+     * in front of it, unless the window is zero.
+     */
+    @Bean
+    @Qualifier(SOURCE)
+    @ConditionalOnProperty(name = "product-catalog.mode", havingValue = "remote")
+    public ProductCatalog remoteProductCatalog(ProductClient productClient, ResilientCaller productServiceCaller) {
+        var timeouts = new ResilientProductCatalog.Timeouts(getProductTimeout, getProductsTimeout,
+                getAllProductsTimeout, writeTimeout);
+        var remote = new ResilientProductCatalog(new RemoteProductCatalog(productClient), productServiceCaller, timeouts);
+        return coalescingWindow.isZero() ? remote : new CoalescingProductCatalog(remote, coalescingWindow, bulkMaxIds);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "product-catalog.mode", havingValue = "remote")
+    public ResilientCaller productServiceCaller() {
+        var circuitBreaker = new CircuitBreaker(circuitBreakerWindowSize, circuitBreakerMinimumCalls,
+                circuitBreakerFailureRateThreshold, circuitBreakerOpenDuration, circuitBreakerHalfOpenProbes,
+                Clock.systemUTC());
+        return new ResilientCaller("product-service", circuitBreaker, bulkheadMaxConcurrentCalls, bulkheadMaxWait,
+                hedgingEnabled ? hedgingDelay : null);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "product-cache.enabled", havingValue = "true")
+    public ProductCatalog cachingProductCatalog(@Qualifier(SOURCE) ProductCatalog source,
+                                                @Qualifier("taskExecutor") Executor taskExecutor) {
+        return new CachingProductCatalog(source, taskExecutor, cacheMaxSize, cacheTtl,
+                cacheRefreshAhead, cacheMaxStale, Clock.systemUTC());
+    }
+}
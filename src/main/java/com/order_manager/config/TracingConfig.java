@@ -0,0 +1,20 @@
+package com.order_manager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Boot builds the OpenTelemetry SDK and hands it every
+ * {@link io.opentelemetry.sdk.trace.export.SpanExporter} bean. Its own OTLP exporter is switched on by
+ * {@code management.otlp.tracing.export.enabled}; the in-memory one here is for tests.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.in-memory-exporter.enabled", havingValue = "true")
+    public InMemorySpanExporter inMemorySpanExporter() {
+        return new InMemorySpanExporter();
+    }
+}
@@ -1,11 +1,20 @@
 package com.order_manager.config;
 
+import com.order_manager.client.HttpPoolMetrics;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class WebClientConfig {
@@ -13,10 +22,74 @@ public class WebClientConfig {
     @Value("${webclient.base-url}")
     private String baseUrl;
 
+    @Value("${webclient.response-timeout}")
+    private Duration responseTimeout;
+
+    @Value("${webclient.protocols}")
+    private List<HttpProtocol> protocols;
+
+    @Value("${http-client.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${http-client.max-connections}")
+    private int maxConnections;
+
+    @Value("${http-client.max-idle-time}")
+    private Duration maxIdleTime;
+
+    @Value("${http-client.max-life-time}")
+    private Duration maxLifeTime;
+
+    @Value("${http-client.eviction-interval}")
+    private Duration evictionInterval;
+
+    @Value("${http-client.pending-acquire-timeout}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${http-client.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${http-client.compression}")
+    private boolean compression;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider(HttpPoolMetrics httpPoolMetrics) {
+        return ConnectionProvider.builder("webclient")
+                .maxConnections(maxConnections)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .metrics(true, () -> httpPoolMetrics)
+                .build();
+    }
+
+    /**
+     * H2 needs TLS with ALPN, so it is only offered for https base URLs; H2C upgrades a cleartext
+     * HTTP/1.1 connection when the server supports it. Built from Boot's builder so calls are
+     * recorded in the {@code http.client.requests} timer.
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder webClientBuilder, ConnectionProvider webClientConnectionProvider) {
+        var httpProtocols = protocols.stream()
+                .filter(protocol -> protocol != HttpProtocol.H2 || baseUrl.startsWith("https"))
+                .toArray(HttpProtocol[]::new);
+        if (httpProtocols.length == 0) {
+            httpProtocols = new HttpProtocol[]{HttpProtocol.HTTP11};
+        }
+        var httpClient = HttpClient.create(webClientConnectionProvider)
+                .protocol(httpProtocols)
+                .compress(compression)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        if (baseUrl.startsWith("https")) {
+            httpClient = httpClient.secure();
+        }
+
+        return webClientBuilder
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
@@ -39,7 +39,7 @@ public class AuthController {
                 new UsernamePasswordAuthenticationToken(input.name(), input.password()));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        String token = jwtTokenProvider.createToken(input.name());
+        String token = jwtTokenProvider.createToken(input.name(), authentication.getAuthorities());
 
         return new AuthDto(token);
     }
@@ -1,17 +1,28 @@
 package com.order_manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order_manager.dto.OrderBatchDto;
+import com.order_manager.dto.OrderBatchInput;
 import com.order_manager.dto.OrderDto;
 import com.order_manager.dto.OrderInput;
+import com.order_manager.dto.OrderPageDto;
+import com.order_manager.dto.OrderSummaryDto;
 import com.order_manager.entity.OrderStatus;
 import com.order_manager.service.OrderService;
+import com.order_manager.service.OrderSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @Tag(name = "Orders")
@@ -20,18 +31,51 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderSummaryService orderSummaryService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new order")
     public OrderDto createOrder(@AuthenticationPrincipal UserDetails userDetails,
-                                @RequestBody OrderInput input) {
+                                @RequestBody @Valid OrderInput input) {
         return orderService.createOrder(userDetails.getUsername(), input);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create many orders in one request")
+    public OrderBatchDto createOrders(@AuthenticationPrincipal UserDetails userDetails,
+                                      @RequestBody @Valid OrderBatchInput input) {
+        return orderService.createOrders(userDetails.getUsername(), input.orders());
+    }
+
     @GetMapping
-    @Operation(summary = "Get orders for a user")
-    public List<OrderDto> getOrdersByUsername(@AuthenticationPrincipal UserDetails userDetails) {
-        return orderService.getOrdersByUsername(userDetails.getUsername());
+    @Operation(summary = "Get a page of orders for a user")
+    public OrderPageDto getOrdersByUsername(@AuthenticationPrincipal UserDetails userDetails,
+                                            @Parameter(description = "ID of the last order of the previous page")
+                                            @RequestParam(required = false) Long after,
+                                            @Parameter(description = "Page size, capped by the configured maximum")
+                                            @RequestParam(required = false) Integer size) {
+        return orderService.getOrdersByUsername(userDetails.getUsername(), after, size);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all orders for a user as NDJSON")
+    public StreamingResponseBody streamOrdersByUsername(@AuthenticationPrincipal UserDetails userDetails) {
+        var username = userDetails.getUsername();
+        return outputStream -> orderService.streamOrdersByUsername(username, order -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(order));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get order counts and totals per status for a user")
+    public OrderSummaryDto getOrderSummary(@AuthenticationPrincipal UserDetails userDetails) {
+        return orderSummaryService.getSummary(userDetails.getUsername());
     }
 
     @GetMapping("/{orderId}")
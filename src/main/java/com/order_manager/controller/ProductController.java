@@ -24,6 +24,12 @@ public class ProductController {
         return productService.getAllProducts();
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get the products with the given IDs; unknown IDs are skipped")
+    public List<ProductDto> getProducts(@RequestParam List<Long> ids) {
+        return productService.getProducts(ids);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get information about product by ID")
     public ProductDto getProduct(@PathVariable Long id) {
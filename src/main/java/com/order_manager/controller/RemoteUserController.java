@@ -0,0 +1,56 @@
+package com.order_manager.controller;
+
+import com.order_manager.client.UserWebClient;
+import com.order_manager.dto.UserDto;
+import com.order_manager.dto.UserInput;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Proxies the remote user service without blocking a servlet thread: handlers return the
+ * {@link UserWebClient} publishers and Spring MVC completes the response asynchronously.
+ */
+@RestController
+@Tag(name = "Remote users")
+@RequestMapping("/remote-users")
+@RequiredArgsConstructor
+public class RemoteUserController {
+
+    private final UserWebClient userWebClient;
+
+    @GetMapping("/{userId}")
+    @Operation(summary = "Get a remote user by ID")
+    public Mono<UserDto> getUser(@PathVariable Long userId) {
+        return userWebClient.fetchUserMono(userId);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get remote users by IDs, fetched concurrently")
+    public Flux<UserDto> getUsers(@RequestParam List<Long> ids) {
+        return userWebClient.fetchUsers(Flux.fromIterable(ids));
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a remote user")
+    public Mono<UserDto> createUser(@RequestBody UserInput input) {
+        return userWebClient.createUserMono(input);
+    }
+
+    @PutMapping("/{userId}")
+    @Operation(summary = "Update a remote user by ID")
+    public Mono<UserDto> updateUser(@PathVariable Long userId, @RequestBody UserInput input) {
+        return userWebClient.updateUserMono(userId, input);
+    }
+
+    @DeleteMapping("/{userId}")
+    @Operation(summary = "Delete a remote user by ID")
+    public Mono<Void> deleteUser(@PathVariable Long userId) {
+        return userWebClient.deleteUserMono(userId);
+    }
+}
@@ -0,0 +1,186 @@
+package com.order_manager.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connections for read-only transactions. Healthy replicas are used in turn; the primary serves the read
+ * when no replica is healthy, when the chosen one refuses a connection, or when the current user has just
+ * written (see {@link ReadYourWritesGuard}). A replica is healthy while it answers and its replay lag is
+ * within {@code maxLag}; replicas start unhealthy until their first check. A transaction served by a replica
+ * is flagged (see {@link #isReplicaRead()}) so callers can keep possibly stale results out of caches.
+ */
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String REPLICA_READ_KEY = ReadReplicaDataSource.class.getName() + ".REPLICA_READ";
+
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END::bigint
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final Duration maxLag;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReadReplicaDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                 ReadYourWritesGuard readYourWritesGuard, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readYourWritesGuard.mustReadFromPrimary()) {
+            var replica = nextHealthyReplica();
+            if (replica.isPresent()) {
+                try {
+                    var connection = replica.get().dataSource.getConnection();
+                    replicaReads.increment();
+                    markReplicaRead();
+                    return connection;
+                } catch (SQLException e) {
+                    markUnhealthy(replica.get(), e.getMessage());
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Whether the current transaction took its connection from a replica, which may lag behind the primary
+     * by up to {@code maxLag}.
+     */
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ_KEY);
+    }
+
+    @Scheduled(fixedDelayString = "${read-replicas.health-check-interval}")
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    public List<ReplicaState> getReplicaStates() {
+        return replicas.stream()
+                .map(replica -> new ReplicaState(replica.name, replica.healthy, replica.lag))
+                .toList();
+    }
+
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (var replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static void markReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_READ_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ_KEY);
+            }
+        });
+    }
+
+    private Optional<Replica> nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            var replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return Optional.of(replica);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void check(Replica replica) {
+        try (var connection = replica.dataSource.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            replica.lag = Duration.ofMillis(resultSet.getLong(1));
+        } catch (SQLException e) {
+            markUnhealthy(replica, e.getMessage());
+            return;
+        }
+        if (replica.lag.compareTo(maxLag) > 0) {
+            markUnhealthy(replica, "lag of " + replica.lag.toMillis() + " ms");
+        } else if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("Read replica {} is healthy, lag {} ms", replica.name, replica.lag.toMillis());
+        }
+    }
+
+    private void markUnhealthy(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} taken out of rotation: {}", replica.name, reason);
+        }
+    }
+
+    public record ReplicaState(String name, boolean healthy, Duration lag) {
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile Duration lag = Duration.ZERO;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.order_manager.datasource;
+
+import com.order_manager.cache.LocalCache;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers users who just committed a write so their read-only transactions go to the primary until
+ * replicas have caught up. The window equals the replica lag we tolerate. Only transactions that wrote count:
+ * {@link TransactionWriteListener} reports each row Hibernate inserts, updates or deletes, and the user is
+ * pinned once that transaction commits. Users are tracked per instance, so read-your-writes holds only while
+ * a user's requests reach the same instance.
+ */
+public class ReadYourWritesGuard {
+
+    private static final String WRITE_KEY = ReadYourWritesGuard.class.getName() + ".WRITE";
+
+    private final LocalCache<String, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(int maxUsers, Duration window) {
+        this.recentWriters = new LocalCache<>(maxUsers, window);
+    }
+
+    /**
+     * Marks the current transaction as a write; its user is pinned to the primary after it commits.
+     * Outside a transaction the write is already committed, so the user is pinned right away.
+     */
+    public void markWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pinCurrentUser();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(WRITE_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinCurrentUser();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_KEY);
+            }
+        });
+    }
+
+    public boolean mustReadFromPrimary() {
+        return currentUser().flatMap(recentWriters::get).isPresent();
+    }
+
+    private void pinCurrentUser() {
+        currentUser().ifPresent(username -> recentWriters.put(username, Boolean.TRUE));
+    }
+
+    private static Optional<String> currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+}
@@ -0,0 +1,44 @@
+package com.order_manager.datasource;
+
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Tells {@link ReadYourWritesGuard} when a flush writes an entity row, so read-write transactions that only
+ * read don't pin their user to the primary. Bulk and native statements (e.g. the order summary upsert) fire
+ * no events; here they only run next to an entity change of the same transaction.
+ */
+public class TransactionWriteListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private final ReadYourWritesGuard readYourWritesGuard;
+
+    public TransactionWriteListener(ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        readYourWritesGuard.markWrite();
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        readYourWritesGuard.markWrite();
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        readYourWritesGuard.markWrite();
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
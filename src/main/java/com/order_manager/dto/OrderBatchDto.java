@@ -0,0 +1,5 @@
+package com.order_manager.dto;
+
+import java.util.List;
+
+public record OrderBatchDto(int created, int rejected, List<OrderBatchItemDto> items) implements Dto {}
@@ -0,0 +1,27 @@
+package com.order_manager.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record OrderBatchInput(
+        @NotEmpty
+        @Size(max = OrderBatchInput.MAX_ORDERS)
+        List<@Valid OrderInput> orders
+) {
+    /** Hard limits checked during validation; {@code order-batch.max-size} can only lower the order count. */
+    public static final int MAX_ORDERS = 1000;
+    public static final int MAX_UNITS = 10_000;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "A batch can hold at most " + MAX_UNITS + " units")
+    public boolean isWithinUnitLimit() {
+        return orders == null || orders.stream().mapToLong(OrderInput::totalUnits).sum() <= MAX_UNITS;
+    }
+}
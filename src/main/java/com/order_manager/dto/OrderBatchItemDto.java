@@ -0,0 +1,15 @@
+package com.order_manager.dto;
+
+/**
+ * Outcome of one order of a batch: either the created order or the reason it was rejected.
+ */
+public record OrderBatchItemDto(int index, OrderDto order, String error) implements Dto {
+
+    public static OrderBatchItemDto created(int index, OrderDto order) {
+        return new OrderBatchItemDto(index, order, null);
+    }
+
+    public static OrderBatchItemDto rejected(int index, String error) {
+        return new OrderBatchItemDto(index, null, error);
+    }
+}
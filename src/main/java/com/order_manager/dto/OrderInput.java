@@ -1,15 +1,29 @@
 package com.order_manager.dto;
 
-import com.order_manager.entity.DbProduct;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 
 import java.util.List;
 
 public record OrderInput(
-        @Schema(example = "[{\"id\": 1, \"name\": \"Product 1\", \"price\": 100.0}," +
-                          " {\"id\": 2, \"name\": \"Product 2\", \"price\": 150.0}]")
-        List<DbProduct> products,
+        @Schema(example = "[{\"id\": 1, \"quantity\": 2}, {\"id\": 2}]")
+        List<@Valid OrderLineInput> products,
 
         @Schema(example = "1")
         Integer quantity
-) {}
+) {
+    public static final int MAX_UNITS = 1000;
+
+    public long totalUnits() {
+        return products == null ? 0 : products.stream().mapToLong(OrderLineInput::quantityOrDefault).sum();
+    }
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "An order can hold at most " + MAX_UNITS + " units")
+    public boolean isWithinUnitLimit() {
+        return totalUnits() <= MAX_UNITS;
+    }
+}
@@ -0,0 +1,5 @@
+package com.order_manager.dto;
+
+import java.math.BigDecimal;
+
+public record OrderLineDto(Long id, String name, BigDecimal unitPrice, Long quantity) implements Dto {}
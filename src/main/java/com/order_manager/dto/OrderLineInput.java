@@ -0,0 +1,28 @@
+package com.order_manager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record OrderLineInput(
+        @Schema(example = "1")
+        @NotNull
+        Long id,
+
+        @Schema(example = "2", defaultValue = "1")
+        @Positive
+        @Max(OrderLineInput.MAX_QUANTITY)
+        Integer quantity
+) {
+    /** Bounds a single line; {@link OrderInput#MAX_UNITS} bounds the whole order. */
+    public static final int MAX_QUANTITY = 1000;
+
+    public OrderLineInput(Long id) {
+        this(id, 1);
+    }
+
+    public int quantityOrDefault() {
+        return quantity == null ? 1 : quantity;
+    }
+}
@@ -0,0 +1,5 @@
+package com.order_manager.dto;
+
+import java.util.List;
+
+public record OrderPageDto(List<OrderDto> orders, Long nextCursor) implements Dto {}
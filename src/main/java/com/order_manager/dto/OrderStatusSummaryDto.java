@@ -0,0 +1,7 @@
+package com.order_manager.dto;
+
+import com.order_manager.entity.OrderStatus;
+
+import java.math.BigDecimal;
+
+public record OrderStatusSummaryDto(OrderStatus status, long orderCount, BigDecimal totalValue) implements Dto {}
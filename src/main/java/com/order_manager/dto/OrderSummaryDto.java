@@ -0,0 +1,6 @@
+package com.order_manager.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record OrderSummaryDto(long orderCount, BigDecimal totalValue, List<OrderStatusSummaryDto> byStatus) implements Dto {}
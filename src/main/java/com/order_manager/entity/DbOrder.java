@@ -2,6 +2,8 @@ package com.order_manager.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,30 +18,37 @@ import java.util.List;
 public class DbOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private DbUser user;
 
-    @ManyToMany
-    @JoinTable(
-            name = "order_products",
-            joinColumns = @JoinColumn(name = "order_id"),
-            inverseJoinColumns = @JoinColumn(name = "product_id")
-    )
-    private List<DbProduct> products = new ArrayList<>();
+    @ElementCollection
+    @CollectionTable(name = "order_products", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line_no")
+    private List<DbOrderLine> lines = new ArrayList<>();
 
     private Integer quantity;
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
-    public DbOrder(DbUser user, List<DbProduct> products, Integer quantity, OrderStatus status) {
+    /** Sum of the line prices at creation; unaffected by later price changes or product deletions. */
+    @Column(name = "total_value", nullable = false)
+    private BigDecimal totalValue = BigDecimal.ZERO;
+
+    public DbOrder(DbUser user, List<DbOrderLine> lines, Integer quantity, OrderStatus status) {
         this.user = user;
-        this.products = products;
+        this.lines = lines;
         this.quantity = quantity;
         this.status = status;
+        this.totalValue = lines.stream()
+                .map(line -> line.getProduct().getPrice().multiply(BigDecimal.valueOf(line.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 }
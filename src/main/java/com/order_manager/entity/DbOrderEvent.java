@@ -0,0 +1,57 @@
+package com.order_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Outbox row for an order status change. Written in the same transaction as the order update
+ * and deleted by the notification relay once delivered.
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Table(name = "order_events")
+public class DbOrderEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant availableAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    /** Trace and span of the change that queued the event; {@code null} when it was not traced. */
+    private String traceId;
+
+    private String spanId;
+
+    public DbOrderEvent(Long orderId, String recipient, OrderStatus status, Instant createdAt) {
+        this.orderId = orderId;
+        this.recipient = recipient;
+        this.status = status;
+        this.availableAt = createdAt;
+        this.createdAt = createdAt;
+    }
+}
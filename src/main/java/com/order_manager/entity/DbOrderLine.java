@@ -0,0 +1,24 @@
+package com.order_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One product of an order and how many units of it were ordered; a row of {@code order_products}.
+ */
+@Embeddable
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DbOrderLine {
+
+    @ManyToOne
+    @JoinColumn(name = "product_id", nullable = false)
+    private DbProduct product;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
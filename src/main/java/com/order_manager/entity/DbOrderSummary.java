@@ -0,0 +1,44 @@
+package com.order_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Per-user, per-status order count and value, kept up to date by {@code OrderService} in the same
+ * transaction as the order change.
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Table(name = "order_summary")
+@IdClass(DbOrderSummary.Key.class)
+public class DbOrderSummary {
+
+    @Id
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    private long orderCount;
+
+    private BigDecimal totalValue;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private OrderStatus status;
+    }
+}
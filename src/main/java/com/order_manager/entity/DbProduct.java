@@ -16,7 +16,7 @@ import java.math.BigDecimal;
 public class DbProduct {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(unique=true, nullable=false)
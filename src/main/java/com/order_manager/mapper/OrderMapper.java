@@ -1,13 +1,40 @@
 package com.order_manager.mapper;
 
 import com.order_manager.dto.OrderDto;
+import com.order_manager.dto.OrderLineDto;
 import com.order_manager.entity.DbOrder;
+import com.order_manager.entity.DbOrderLine;
+import com.order_manager.repository.projection.OrderLineView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING,
         unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface OrderMapper {
+    @Mapping(target = "products", source = "lines")
     OrderDto dbToDto(DbOrder order);
+
+    @Mapping(target = "id", source = "product.id")
+    @Mapping(target = "name", source = "product.name")
+    @Mapping(target = "unitPrice", source = "product.price")
+    OrderLineDto lineToLineDto(DbOrderLine line);
+
+    @Mapping(target = "id", source = "productId")
+    OrderLineDto viewToLineDto(OrderLineView line);
+
+    /**
+     * Builds an order from all of its line rows; the rows must belong to the same order.
+     */
+    default OrderDto viewsToDto(List<OrderLineView> lines) {
+        var order = lines.getFirst();
+        var products = lines.stream()
+                .filter(line -> line.productId() != null)
+                .map(this::viewToLineDto)
+                .toList();
+        return new OrderDto(order.orderId(), order.status(), products);
+    }
 }
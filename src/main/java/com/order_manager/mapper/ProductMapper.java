@@ -0,0 +1,13 @@
+package com.order_manager.mapper;
+
+import com.order_manager.dto.ProductDto;
+import com.order_manager.entity.DbProduct;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ProductMapper {
+    ProductDto dbToDto(DbProduct product);
+}
@@ -0,0 +1,27 @@
+package com.order_manager.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+/**
+ * Posts every batch as one JSON document to the configured notification gateway.
+ */
+@RequiredArgsConstructor
+public class HttpNotificationTransport implements NotificationTransport {
+
+    private final RestClient restClient;
+
+    @Override
+    public void send(String recipient, List<OrderStatusNotification> notifications) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new NotificationBatch(recipient, notifications))
+                .retrieve()
+                .toBodilessEntity();
+    }
+
+    record NotificationBatch(String recipient, List<OrderStatusNotification> notifications) {}
+}
@@ -0,0 +1,16 @@
+package com.order_manager.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class LoggingNotificationTransport implements NotificationTransport {
+
+    @Override
+    public void send(String recipient, List<OrderStatusNotification> notifications) {
+        notifications.forEach(notification ->
+                log.info("Notification pushed to {}: status of order #{} changed to {}",
+                        recipient, notification.orderId(), notification.status()));
+    }
+}
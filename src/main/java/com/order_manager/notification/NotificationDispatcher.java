@@ -0,0 +1,170 @@
+package com.order_manager.notification;
+
+import com.order_manager.entity.DbOrderEvent;
+import com.order_manager.repository.OrderEventRepository;
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Relays the {@code order_events} outbox to the notification transport. Each run locks the next
+ * due batch with {@code FOR UPDATE SKIP LOCKED}, so several nodes can drain the outbox without
+ * picking up the same rows. Events are sent in per-recipient batches and deleted once delivered;
+ * failed events are rescheduled with exponential backoff and dropped after the last attempt.
+ * Each delivery is a span in the trace of the oldest event of the batch, linked to the others.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final NotificationTransport transport;
+    private final OrderEventRepository orderEventRepository;
+    private final Tracer tracer;
+    private final Clock clock;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    public NotificationDispatcher(NotificationTransport transport,
+                                  OrderEventRepository orderEventRepository,
+                                  Tracer tracer,
+                                  @Value("${notification.batch-size}") int batchSize,
+                                  @Value("${notification.retry.max-attempts}") int maxAttempts,
+                                  @Value("${notification.retry.initial-backoff}") Duration initialBackoff,
+                                  @Value("${notification.retry.max-backoff}") Duration maxBackoff) {
+        this(transport, orderEventRepository, tracer, batchSize, maxAttempts, initialBackoff, maxBackoff, Clock.systemUTC());
+    }
+
+    NotificationDispatcher(NotificationTransport transport,
+                           OrderEventRepository orderEventRepository,
+                           Tracer tracer,
+                           int batchSize,
+                           int maxAttempts,
+                           Duration initialBackoff,
+                           Duration maxBackoff,
+                           Clock clock) {
+        this.transport = transport;
+        this.orderEventRepository = orderEventRepository;
+        this.tracer = tracer;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelayString = "${notification.dispatch-interval}", fixedDelayString = "${notification.dispatch-interval}")
+    @Transactional
+    public void dispatch() {
+        var now = clock.instant();
+        orderEventRepository.lockNextBatch(now, batchSize).stream()
+                .collect(Collectors.groupingBy(DbOrderEvent::getRecipient, LinkedHashMap::new, Collectors.toList()))
+                .forEach((recipient, events) -> send(recipient, events, now));
+    }
+
+    public NotificationStats getStats() {
+        return new NotificationStats(sent.sum(), retried.sum(), abandoned.sum());
+    }
+
+    /**
+     * Only a transport failure reschedules the events. A failing delete propagates and rolls the
+     * run back, so the events are sent again on a later run rather than rescheduled in a
+     * transaction that can no longer commit.
+     */
+    private void send(String recipient, List<DbOrderEvent> events, Instant now) {
+        try {
+            deliver(recipient, events);
+        } catch (RuntimeException e) {
+            reschedule(recipient, events, now, e);
+            return;
+        }
+        orderEventRepository.deleteAllInBatch(events);
+        sent.add(events.size());
+    }
+
+    private void deliver(String recipient, List<DbOrderEvent> events) {
+        var span = startSendSpan(events);
+        try (var _ = tracer.withSpan(span)) {
+            transport.send(recipient, events.stream().map(NotificationDispatcher::toNotification).toList());
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Span startSendSpan(List<DbOrderEvent> events) {
+        var builder = tracer.spanBuilder()
+                .name("notification send")
+                .tag("notification.count", String.valueOf(events.size()));
+        var hasParent = false;
+        for (var event : events) {
+            if (event.getTraceId() == null || event.getSpanId() == null) {
+                continue;
+            }
+            var origin = tracer.traceContextBuilder()
+                    .traceId(event.getTraceId())
+                    .spanId(event.getSpanId())
+                    .sampled(true)
+                    .build();
+            builder = hasParent ? builder.addLink(new Link(origin)) : builder.setParent(origin);
+            hasParent = true;
+        }
+        return builder.start();
+    }
+
+    private void reschedule(String recipient, List<DbOrderEvent> events, Instant now, RuntimeException cause) {
+        var exhausted = new ArrayList<DbOrderEvent>();
+        for (var event : events) {
+            event.setAttempts(event.getAttempts() + 1);
+            if (event.getAttempts() >= maxAttempts) {
+                exhausted.add(event);
+            } else {
+                event.setAvailableAt(now.plus(backoff(event.getAttempts())));
+            }
+        }
+
+        if (!exhausted.isEmpty()) {
+            orderEventRepository.deleteAllInBatch(exhausted);
+            abandoned.add(exhausted.size());
+            log.error("Giving up on {} notification(s) to {} after {} attempts: {}",
+                    exhausted.size(), recipient, maxAttempts, cause.getMessage());
+        }
+
+        var rescheduled = events.size() - exhausted.size();
+        if (rescheduled > 0) {
+            retried.add(rescheduled);
+            log.warn("Failed to send {} notification(s) to {}, rescheduled: {}", rescheduled, recipient, cause.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        var backoff = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 30));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static OrderStatusNotification toNotification(DbOrderEvent event) {
+        return new OrderStatusNotification(event.getRecipient(), event.getOrderId(), event.getStatus());
+    }
+}
@@ -0,0 +1,3 @@
+package com.order_manager.notification;
+
+public record NotificationStats(long sent, long retried, long abandoned) {}
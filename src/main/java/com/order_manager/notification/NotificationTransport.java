@@ -0,0 +1,12 @@
+package com.order_manager.notification;
+
+import java.util.List;
+
+/**
+ * Delivers a batch of notifications to a single recipient. Implementations signal a failed
+ * delivery by throwing; the dispatcher then retries the whole batch.
+ */
+public interface NotificationTransport {
+
+    void send(String recipient, List<OrderStatusNotification> notifications);
+}
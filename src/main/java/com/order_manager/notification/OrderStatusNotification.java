@@ -0,0 +1,5 @@
+package com.order_manager.notification;
+
+import com.order_manager.entity.OrderStatus;
+
+public record OrderStatusNotification(String recipient, Long orderId, OrderStatus status) {}
@@ -0,0 +1,24 @@
+package com.order_manager.repository;
+
+import com.order_manager.entity.DbOrderEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OrderEventRepository extends JpaRepository<DbOrderEvent, Long> {
+
+    /**
+     * Locks the next due events. Rows already locked by another node are skipped, so concurrent
+     * relays drain disjoint batches.
+     */
+    @Query(value = """
+            SELECT * FROM order_events
+            WHERE available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<DbOrderEvent> lockNextBatch(Instant now, int limit);
+}
@@ -1,10 +1,51 @@
 package com.order_manager.repository;
 
 import com.order_manager.entity.DbOrder;
+import com.order_manager.repository.projection.OrderLineView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<DbOrder, Long> {
-    List<DbOrder> findByUserName(String name);
+
+    @Query("""
+            SELECT o.id FROM DbOrder o
+            WHERE o.user.name = :name AND o.id > :afterId
+            ORDER BY o.id
+            """)
+    List<Long> findIdsByUserName(String name, Long afterId, Limit limit);
+
+    @Query("""
+            SELECT new com.order_manager.repository.projection.OrderLineView(
+                o.id, o.status, p.id, p.name, p.price, CAST(l.quantity AS Long))
+            FROM DbOrder o LEFT JOIN o.lines l LEFT JOIN l.product p
+            WHERE o.id IN :orderIds
+            ORDER BY o.id, INDEX(l)
+            """)
+    List<OrderLineView> findLinesByOrderIdIn(Collection<Long> orderIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.order_manager.repository.projection.OrderLineView(
+                o.id, o.status, p.id, p.name, p.price, CAST(l.quantity AS Long))
+            FROM DbOrder o LEFT JOIN o.lines l LEFT JOIN l.product p
+            WHERE o.user.name = :name
+            ORDER BY o.id, INDEX(l)
+            """)
+    Stream<OrderLineView> streamLinesByUserName(String name);
+
+    @EntityGraph(attributePaths = {"user", "lines"})
+    Optional<DbOrder> findDetailedById(Long id);
 }
@@ -0,0 +1,33 @@
+package com.order_manager.repository;
+
+import com.order_manager.entity.DbOrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface OrderSummaryRepository extends JpaRepository<DbOrderSummary, DbOrderSummary.Key> {
+
+    @Query("""
+            SELECT s FROM DbOrderSummary s
+            WHERE s.userId = (SELECT u.id FROM DbUser u WHERE u.name = :name)
+            ORDER BY s.status
+            """)
+    List<DbOrderSummary> findByUserName(String name);
+
+    /**
+     * Adds the deltas to the user's row for the status, creating it if needed. The upsert is
+     * atomic, so concurrent order changes of the same user don't lose updates.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO order_summary (user_id, status, order_count, total_value)
+            VALUES (:userId, :status, :countDelta, :valueDelta)
+            ON CONFLICT (user_id, status) DO UPDATE
+            SET order_count = order_summary.order_count + EXCLUDED.order_count,
+                total_value = order_summary.total_value + EXCLUDED.total_value
+            """, nativeQuery = true)
+    void applyDelta(Long userId, String status, long countDelta, BigDecimal valueDelta);
+}
@@ -3,5 +3,11 @@ package com.order_manager.repository;
 import com.order_manager.entity.DbProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductRepository extends JpaRepository<DbProduct, Long> {
+    List<DbProduct> findByIdIn(Collection<Long> ids);
+
+    boolean existsByName(String name);
 }
@@ -0,0 +1,16 @@
+package com.order_manager.repository.projection;
+
+import com.order_manager.entity.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * One product line of an order, a row of {@code order_products}. Orders without products
+ * produce a single row with a {@code null} product.
+ */
+public record OrderLineView(Long orderId,
+                            OrderStatus status,
+                            Long productId,
+                            String name,
+                            BigDecimal unitPrice,
+                            Long quantity) {}
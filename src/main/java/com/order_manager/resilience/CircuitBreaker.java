@@ -0,0 +1,129 @@
+package com.order_manager.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Count-based circuit breaker. While CLOSED it tracks the outcome of the last
+ * {@code slidingWindowSize} calls and opens once at least {@code minimumCalls} were recorded and the
+ * failure rate reaches the threshold. OPEN rejects calls for {@code openDuration}, then HALF_OPEN
+ * lets {@code halfOpenProbes} calls through: all succeeding closes the breaker, any failure opens it
+ * again.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final Clock clock;
+
+    private final Deque<Boolean> outcomes = new ArrayDeque<>();
+    private int failures;
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public CircuitBreaker(int slidingWindowSize,
+                          int minimumCalls,
+                          int failureRateThreshold,
+                          Duration openDuration,
+                          int halfOpenProbes,
+                          Clock clock) {
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = clock;
+    }
+
+    /**
+     * @return whether a call may proceed; every permitted call must be followed by
+     * {@link #onSuccess()} or {@link #onFailure()}
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probesStarted >= halfOpenProbes) {
+                    yield false;
+                }
+                probesStarted++;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.OPEN) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (outcomes.size() >= minimumCalls && failures * 100 >= failureRateThreshold * outcomes.size()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Returns a permission without recording an outcome, e.g. when the call was abandoned.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        outcomes.addLast(failure);
+        if (failure) {
+            failures++;
+        }
+        if (outcomes.size() > slidingWindowSize && outcomes.removeFirst()) {
+            failures--;
+        }
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        outcomes.clear();
+        failures = 0;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (newState == State.OPEN) {
+            openedAt = clock.instant();
+        }
+    }
+}
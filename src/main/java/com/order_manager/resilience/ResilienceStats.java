@@ -0,0 +1,9 @@
+package com.order_manager.resilience;
+
+public record ResilienceStats(long calls,
+                              long failures,
+                              long timeouts,
+                              long rejectedByCircuitBreaker,
+                              long rejectedByBulkhead,
+                              long hedges,
+                              CircuitBreaker.State circuitBreakerState) {}
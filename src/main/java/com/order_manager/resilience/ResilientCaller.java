@@ -0,0 +1,196 @@
+package com.order_manager.resilience;
+
+import com.order_manager.exception.ExternalServiceException;
+import feign.FeignException;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs outbound calls behind a circuit breaker, a concurrency bulkhead and a per-call timeout,
+ * optionally hedging idempotent calls with a second attempt when the first is slow. Rejections and
+ * timeouts surface as {@link ExternalServiceException}. Only server errors, I/O errors and timeouts
+ * count as failures for the breaker; 4xx responses mean the upstream is healthy.
+ */
+public class ResilientCaller implements AutoCloseable {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadMaxWait;
+    private final Duration hedgeDelay;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejectedByCircuitBreaker = new LongAdder();
+    private final LongAdder rejectedByBulkhead = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    /**
+     * @param hedgeDelay delay before a hedged call starts its second attempt; {@code null} disables hedging
+     */
+    public ResilientCaller(String name,
+                           CircuitBreaker circuitBreaker,
+                           int maxConcurrentCalls,
+                           Duration bulkheadMaxWait,
+                           Duration hedgeDelay) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.bulkheadMaxWait = bulkheadMaxWait;
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    public <T> T call(String method, Duration timeout, Supplier<T> supplier) {
+        return execute(method, timeout, supplier, false);
+    }
+
+    /**
+     * Like {@link #call} but, when hedging is enabled, starts a second identical attempt if the first
+     * has not finished after the hedge delay and returns whichever succeeds first. Only for
+     * idempotent reads.
+     */
+    public <T> T callIdempotent(String method, Duration timeout, Supplier<T> supplier) {
+        return execute(method, timeout, supplier, hedgeDelay != null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ResilienceStats getStats() {
+        return new ResilienceStats(calls.sum(), failures.sum(), timeouts.sum(), rejectedByCircuitBreaker.sum(),
+                rejectedByBulkhead.sum(), hedges.sum(), circuitBreaker.getState());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(String method, Duration timeout, Supplier<T> supplier, boolean hedge) {
+        calls.increment();
+        if (!acquireBulkhead()) {
+            rejectedByBulkhead.increment();
+            throw new ExternalServiceException("Too many concurrent calls to " + name + ", " + method + " rejected");
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            rejectedByCircuitBreaker.increment();
+            throw new ExternalServiceException("Circuit breaker of " + name + " is open, " + method + " rejected");
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = start(supplier, hedge, snapshotFactory.captureAll());
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+
+        try {
+            var result = future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timeouts.increment();
+            recordFailure();
+            throw new ExternalServiceException(name + " " + method + " timed out after " + timeout.toMillis() + " ms");
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (isUpstreamFailure(cause)) {
+                recordFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ExternalServiceException(name + " " + method + " failed: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.releasePermission();
+            future.cancel(false);
+            throw new ExternalServiceException(name + " " + method + " was interrupted");
+        }
+    }
+
+    /**
+     * The bulkhead permit is held until every started attempt has finished, not just until the caller
+     * stops waiting: attempts are not interruptible, so a timed-out or losing attempt still occupies
+     * the upstream. Once no attempt is in flight, no hedge can start either. Every attempt runs with
+     * the caller's context (current observation, MDC), so its client span joins the caller's trace.
+     */
+    private <T> CompletableFuture<T> start(Supplier<T> supplier, boolean hedge, ContextSnapshot snapshot) {
+        var result = new CompletableFuture<T>();
+        var inFlight = new AtomicInteger(1);
+        Supplier<T> withContext = () -> {
+            try (var _ = snapshot.setThreadLocals()) {
+                return supplier.get();
+            }
+        };
+        attempt(withContext, result, inFlight);
+
+        if (hedge) {
+            CompletableFuture.delayedExecutor(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS, executor).execute(() -> {
+                if (!result.isDone() && inFlight.getAndUpdate(n -> n == 0 ? 0 : n + 1) > 0) {
+                    hedges.increment();
+                    attempt(withContext, result, inFlight);
+                }
+            });
+        }
+        return result;
+    }
+
+    private <T> void attempt(Supplier<T> supplier, CompletableFuture<T> result, AtomicInteger inFlight) {
+        CompletableFuture.supplyAsync(supplier, executor).whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            }
+            if (inFlight.decrementAndGet() == 0) {
+                bulkhead.release();
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                }
+            }
+        });
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadMaxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordFailure() {
+        failures.increment();
+        circuitBreaker.onFailure();
+    }
+
+    private static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof FeignException feignException) {
+            return feignException.status() < 0 || feignException.status() >= 500;
+        }
+        return true;
+    }
+}
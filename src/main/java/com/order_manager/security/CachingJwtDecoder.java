@@ -0,0 +1,57 @@
+package com.order_manager.security;
+
+import com.order_manager.cache.CacheStats;
+import com.order_manager.cache.LocalCache;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * {@link JwtDecoder} that remembers tokens it has already verified, so repeated requests with the
+ * same bearer token skip parsing and signature verification. Entries are keyed by a SHA-256 hash
+ * of the token and never outlive the token's {@code exp} claim. Rejected tokens are not cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final LocalCache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration ttl) {
+        this.delegate = delegate;
+        this.verifiedTokens = new LocalCache<>(maxSize, ttl);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = hash(token);
+        var cached = verifiedTokens.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        var jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            verifiedTokens.put(key, jwt, jwt.getExpiresAt());
+        }
+        return jwt;
+    }
+
+    public CacheStats getStats() {
+        return verifiedTokens.stats();
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.order_manager.security;
 
-import com.order_manager.service.CustomUserDetailsService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +24,8 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtDecoder jwtDecoder;
-    private final CustomUserDetailsService userDetailsService;
+    private final JwtPrincipalResolver principalResolver;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -39,19 +41,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            Jwt jwt = jwtDecoder.decode(token);
-            String username = jwt.getSubject();
-
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-            CustomJwtAuthenticationToken authentication =
-                    new CustomJwtAuthenticationToken(jwt, userDetails, userDetails.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
+            Observation.createNotStarted("security.jwt.authentication", observationRegistry)
+                    .contextualName("JwtAuthFilter.authenticate")
+                    .observe(() -> authenticate(token));
         } catch (JwtException e) {
             log.error(e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(String token) {
+        Jwt jwt = jwtDecoder.decode(token);
+
+        UserDetails userDetails = principalResolver.resolve(jwt);
+
+        CustomJwtAuthenticationToken authentication =
+                new CustomJwtAuthenticationToken(jwt, userDetails, userDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
 }
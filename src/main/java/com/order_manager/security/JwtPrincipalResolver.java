@@ -0,0 +1,67 @@
+package com.order_manager.security;
+
+import com.order_manager.cache.CacheStats;
+import com.order_manager.cache.LocalCache;
+import com.order_manager.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves the principal of an authenticated request either from the roles claim of the token
+ * (when trusted) or through a bounded, TTL-based cache in front of {@link CustomUserDetailsService}.
+ */
+@Component
+public class JwtPrincipalResolver {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final LocalCache<String, UserDetails> principalCache;
+    private final boolean trustRoleClaims;
+
+    private final LongAdder claimResolutions = new LongAdder();
+
+    public JwtPrincipalResolver(CustomUserDetailsService userDetailsService,
+                                @Value("${jwt.trust-role-claims}") boolean trustRoleClaims,
+                                @Value("${jwt.principal-cache.max-size}") int cacheMaxSize,
+                                @Value("${jwt.principal-cache.ttl}") Duration cacheTtl) {
+        this.userDetailsService = userDetailsService;
+        this.trustRoleClaims = trustRoleClaims;
+        this.principalCache = new LocalCache<>(cacheMaxSize, cacheTtl);
+    }
+
+    public UserDetails resolve(Jwt jwt) {
+        var username = jwt.getSubject();
+
+        var roles = jwt.getClaimAsStringList(JwtTokenProvider.ROLES_CLAIM);
+        if (trustRoleClaims && roles != null) {
+            claimResolutions.increment();
+            return User.withUsername(username)
+                    .password("")
+                    .authorities(roles.toArray(String[]::new))
+                    .build();
+        }
+
+        return principalCache.get(username).orElseGet(() -> {
+            var userDetails = userDetailsService.loadUserByUsername(username);
+            principalCache.put(username, userDetails);
+            return userDetails;
+        });
+    }
+
+    public void evict(String username) {
+        principalCache.invalidate(username);
+    }
+
+    public CacheStats getCacheStats() {
+        return principalCache.stats();
+    }
+
+    public long getClaimResolutions() {
+        return claimResolutions.sum();
+    }
+}
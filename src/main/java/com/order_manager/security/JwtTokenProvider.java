@@ -2,26 +2,31 @@ package com.order_manager.security;
 
 import com.order_manager.config.JwtConfig;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Component;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    public static final String ROLES_CLAIM = "roles";
+
     private final JwtConfig jwtConfig;
     private final JwtDecoder jwtDecoder;
     private final JwtEncoder jwtEncoder;
 
-    public String createToken(String username) {
+    public String createToken(String username, Collection<? extends GrantedAuthority> authorities) {
         JwsHeader headers = JwsHeader.with(MacAlgorithm.HS256).build();
 
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("order-manager")
                 .subject(username)
+                .claim(ROLES_CLAIM, authorities.stream().map(GrantedAuthority::getAuthority).toList())
                 .issuedAt(Instant.now())
                 .expiresAt(Instant.now().plusSeconds(jwtConfig.getExpiration()))
                 .build();
@@ -1,27 +1,39 @@
 package com.order_manager.service;
 
+import com.order_manager.entity.DbOrderEvent;
 import com.order_manager.entity.OrderStatus;
+import com.order_manager.repository.OrderEventRepository;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class NotificationService {
 
-    @Async
-    public void sendOrderStatusChangeNotification(String email, Long orderId, OrderStatus status) {
-        log.info("Dispatch notification to {} about changing status of order #{}: {}", email, orderId, status);
+    private final OrderEventRepository orderEventRepository;
+    private final Tracer tracer;
 
-        try {
-            Thread.sleep(5000);
-            log.info("Notification successfully pushed to {}", email);
-        } catch (InterruptedException e) {
-            log.error("Error while sending notification to {}: {}", email, e.getMessage());
-            Thread.currentThread().interrupt();
-        } catch (Exception e) {
-            log.error("Unexpected error while sending notification to {}: {}", email, e.getMessage());
+    /**
+     * Records the notification in the outbox as part of the caller's transaction; it is sent by
+     * {@link com.order_manager.notification.NotificationDispatcher} only once that transaction commits.
+     * The current span is stored with it, so the delivery shows up in the same trace.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendOrderStatusChangeNotification(String email, Long orderId, OrderStatus status) {
+        log.info("Queue notification to {} about changing status of order #{}: {}", email, orderId, status);
+        var event = new DbOrderEvent(orderId, email, status, Instant.now());
+        var span = tracer.currentSpan();
+        if (span != null && !span.isNoop()) {
+            event.setTraceId(span.context().traceId());
+            event.setSpanId(span.context().spanId());
         }
+        orderEventRepository.save(event);
     }
 }
-
@@ -0,0 +1,144 @@
+package com.order_manager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order_manager.cache.CacheStats;
+import com.order_manager.cache.LocalCache;
+import com.order_manager.cache.SharedCache;
+import com.order_manager.datasource.ReadReplicaDataSource;
+import com.order_manager.dto.OrderDto;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Two-tier cache for {@link OrderDto}: a bounded local tier in front of an optional shared tier.
+ */
+@Slf4j
+@Service
+public class OrderCacheService {
+
+    private static final String KEY_PREFIX = "order:";
+
+    private final LocalCache<Long, OrderDto> localCache;
+    private final SharedCache sharedCache;
+    private final ObjectMapper objectMapper;
+    private final Duration sharedTtl;
+
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+
+    public OrderCacheService(LocalCache<Long, OrderDto> orderLocalCache,
+                             ObjectProvider<SharedCache> sharedCache,
+                             ObjectMapper objectMapper,
+                             @Value("${order-cache.shared.ttl}") Duration sharedTtl) {
+        this.localCache = orderLocalCache;
+        this.sharedCache = sharedCache.getIfAvailable();
+        this.objectMapper = objectMapper;
+        this.sharedTtl = sharedTtl;
+    }
+
+    public Optional<OrderDto> getCachedOrder(@NonNull Long id) {
+        var cached = localCache.get(id);
+        if (cached.isPresent() || sharedCache == null) {
+            return cached;
+        }
+
+        var shared = readShared(id);
+        shared.ifPresentOrElse(order -> {
+            sharedHits.increment();
+            localCache.put(id, order);
+        }, sharedMisses::increment);
+        return shared;
+    }
+
+    /**
+     * Skipped when the order was read from a replica: a lagging replica may return it as it was before an
+     * update whose eviction already ran, and the cache would keep that copy.
+     */
+    public void cacheOrder(@NonNull OrderDto order) {
+        if (ReadReplicaDataSource.isReplicaRead()) {
+            log.debug("Order #{} was read from a replica and is not cached", order.id());
+            return;
+        }
+        localCache.put(order.id(), order);
+        if (sharedCache != null) {
+            writeShared(order);
+        }
+    }
+
+    /**
+     * Evicts the order immediately and, inside a transaction, once more after commit so that
+     * a concurrent reader can't re-populate the cache with the pre-commit state.
+     */
+    public void evictOrder(@NonNull Long id) {
+        evict(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(id);
+                }
+            });
+        }
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    public CacheStats getLocalStats() {
+        return localCache.stats();
+    }
+
+    public CacheStats getSharedStats() {
+        return new CacheStats(sharedHits.sum(), sharedMisses.sum(), 0, 0);
+    }
+
+    private void evict(Long id) {
+        localCache.invalidate(id);
+        if (sharedCache != null) {
+            try {
+                sharedCache.evict(KEY_PREFIX + id);
+            } catch (DataAccessException e) {
+                log.warn("Failed to evict order #{} from shared cache: {}", id, e.getMessage());
+            }
+        }
+    }
+
+    private Optional<OrderDto> readShared(Long id) {
+        try {
+            return sharedCache.get(KEY_PREFIX + id)
+                    .map(this::deserialize);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read order #{} from shared cache: {}", id, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeShared(OrderDto order) {
+        try {
+            sharedCache.put(KEY_PREFIX + order.id(), objectMapper.writeValueAsString(order), sharedTtl);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Failed to write order #{} to shared cache: {}", order.id(), e.getMessage());
+        }
+    }
+
+    private OrderDto deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, OrderDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping corrupted order cache entry: {}", e.getMessage());
+            return null;
+        }
+    }
+}
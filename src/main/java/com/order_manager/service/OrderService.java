@@ -1,10 +1,19 @@
 package com.order_manager.service;
 
+import com.order_manager.config.OrderBatchConfig;
+import com.order_manager.config.PaginationConfig;
+import com.order_manager.dto.OrderBatchDto;
+import com.order_manager.dto.OrderBatchItemDto;
 import com.order_manager.dto.OrderDto;
 import com.order_manager.dto.OrderInput;
+import com.order_manager.dto.OrderLineInput;
+import com.order_manager.dto.OrderPageDto;
 import com.order_manager.entity.DbOrder;
+import com.order_manager.entity.DbOrderLine;
+import com.order_manager.entity.DbProduct;
 import com.order_manager.entity.DbUser;
 import com.order_manager.entity.OrderStatus;
+import com.order_manager.exception.InvalidRequestException;
 import com.order_manager.exception.OrderNotFoundException;
 import com.order_manager.exception.ProductNotFoundException;
 import com.order_manager.exception.UserNotFoundException;
@@ -12,13 +21,24 @@ import com.order_manager.mapper.OrderMapper;
 import com.order_manager.repository.OrderRepository;
 import com.order_manager.repository.ProductRepository;
 import com.order_manager.repository.UserRepository;
+import com.order_manager.repository.projection.OrderLineView;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,66 +49,138 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final NotificationService notificationService;
+    private final OrderCacheService orderCacheService;
+    private final OrderSummaryService orderSummaryService;
     private final OrderMapper orderMapper;
+    private final PaginationConfig paginationConfig;
+    private final OrderBatchConfig orderBatchConfig;
 
+    @Transactional
     public OrderDto createOrder(String username, OrderInput input) {
-        input.products().forEach(product -> {
-            if (productRepository.findById(product.getId()).isEmpty()) {
-                throw new ProductNotFoundException("No valid products found");
-            }
-        });
+        var dbLines = findLines(input.products());
 
         var dbUser = userRepository.findByName(username)
                 .orElseThrow(() -> new UserNotFoundException("User '" + username + "' not found"));
 
-        var dbOrder = createDbOrder(dbUser, input);
+        var dbOrder = createDbOrder(dbUser, dbLines, input.quantity());
         var orderDto = saveAndConvertToDto(dbOrder);
-
-        OrderDTO response = orderMapper.dbToDto(orderRepository.save(order));
+        orderSummaryService.recordCreated(dbOrder);
 
         log.info("Order with id #{} was created", orderDto.id());
         return orderDto;
     }
 
     @Transactional(readOnly = true)
-    public List<OrderDto> getOrdersByUsername(String username) {
+    public OrderPageDto getOrdersByUsername(String username, Long afterId, Integer size) {
+        var pageSize = resolvePageSize(size);
 
-        List<OrderDto> orderDto = orderRepository.findByUserName(username)
-                .stream()
-                .map(orderMapper::dbToDto)
-                .toList();
+        var orderIds = orderRepository.findIdsByUserName(
+                username, afterId == null ? 0L : afterId, Limit.of(pageSize + 1));
+
+        var hasNext = orderIds.size() > pageSize;
+        var pageIds = hasNext ? orderIds.subList(0, pageSize) : orderIds;
 
+        var orders = new ArrayList<OrderDto>(pageIds.size());
+        if (!pageIds.isEmpty()) {
+            groupByOrder(orderRepository.findLinesByOrderIdIn(pageIds).iterator(), orders::add);
+        }
+        var nextCursor = hasNext ? pageIds.getLast() : null;
 
         log.info("Orders retrieved from DB");
-        return orderDto;
+        return new OrderPageDto(orders, nextCursor);
+    }
+
+    /**
+     * Streams all orders of the user off a JDBC cursor. Rows are read as projections, so
+     * no entities are hydrated and memory use doesn't grow with the order history.
+     */
+    @Transactional(readOnly = true)
+    public void streamOrdersByUsername(String username, Consumer<OrderDto> consumer) {
+        try (var lines = orderRepository.streamLinesByUserName(username)) {
+            groupByOrder(lines.iterator(), consumer);
+        }
+
+        log.info("Orders streamed from DB");
     }
 
     @Transactional(readOnly = true)
     public OrderDto getOrder(@NonNull Long id) {
         var cached = orderCacheService.getCachedOrder(id);
-        System.out.println(cached);
-        if (cached != null) {
-            log.info("Order with id #{} was retrieved from Redis cache", id);
-            return cached;
+        if (cached.isPresent()) {
+            log.info("Order with id #{} was retrieved from cache", id);
+            return cached.get();
         }
 
-        var dbOrder = orderRepository.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException("Order with id #" + id + " not found"));
+        var lines = orderRepository.findLinesByOrderIdIn(List.of(id));
+        if (lines.isEmpty()) {
+            throw new OrderNotFoundException("Order with id #" + id + " not found");
+        }
 
-        var orderDto = orderMapper.dbToDto(dbOrder);
+        var orderDto = orderMapper.viewsToDto(lines);
         orderCacheService.cacheOrder(orderDto);
 
         log.info("Order with id #{} was retrieved from DB", orderDto.id());
         return orderDto;
     }
 
+    /**
+     * Creates many orders of one user in a single transaction: the user and the products of all
+     * orders are loaded once and the inserts go out in JDBC batches. Orders referencing unknown
+     * products are reported per item, or fail the whole batch when {@code order-batch.all-or-nothing} is set.
+     */
+    @Transactional
+    public OrderBatchDto createOrders(String username, List<OrderInput> inputs) {
+        if (inputs.size() > orderBatchConfig.getMaxSize()) {
+            throw new InvalidRequestException("At most " + orderBatchConfig.getMaxSize() + " orders can be created at once");
+        }
+
+        var dbUser = userRepository.findByName(username)
+                .orElseThrow(() -> new UserNotFoundException("User '" + username + "' not found"));
+
+        var quantitiesPerOrder = inputs.stream()
+                .map(input -> mergeQuantities(input.products()))
+                .toList();
+        var dbProductsById = loadProducts(quantitiesPerOrder.stream()
+                .flatMap(quantities -> quantities.keySet().stream())
+                .toList());
+
+        var items = new OrderBatchItemDto[inputs.size()];
+        var dbOrders = new ArrayList<DbOrder>();
+        var dbOrderIndexes = new ArrayList<Integer>();
+        for (int i = 0; i < inputs.size(); i++) {
+            try {
+                var dbLines = resolveLines(quantitiesPerOrder.get(i), dbProductsById);
+                dbOrders.add(createDbOrder(dbUser, dbLines, inputs.get(i).quantity()));
+                dbOrderIndexes.add(i);
+            } catch (ProductNotFoundException e) {
+                if (orderBatchConfig.isAllOrNothing()) {
+                    throw new InvalidRequestException("Order #" + i + " of the batch is invalid: " + e.getMessage());
+                }
+                items[i] = OrderBatchItemDto.rejected(i, e.getMessage());
+            }
+        }
+
+        orderRepository.saveAll(dbOrders);
+        orderSummaryService.recordCreated(dbOrders);
+        for (int i = 0; i < dbOrders.size(); i++) {
+            int index = dbOrderIndexes.get(i);
+            items[index] = OrderBatchItemDto.created(index, orderMapper.dbToDto(dbOrders.get(i)));
+        }
+
+        log.info("{} of {} orders were created in a batch for user '{}'", dbOrders.size(), inputs.size(), username);
+        return new OrderBatchDto(dbOrders.size(), inputs.size() - dbOrders.size(), List.of(items));
+    }
+
     @Transactional
     public OrderDto updateOrderStatus(@NonNull Long id, OrderStatus status) {
-        var dbOrder = orderRepository.findById(id)
-                .orElseThrow(() -> new OrderNotFoundException("Order with id #" + id + " not found"))
-                .setStatus(status);
+        var dbOrder = orderRepository.findDetailedById(id)
+                .orElseThrow(() -> new OrderNotFoundException("Order with id #" + id + " not found"));
+        var oldStatus = dbOrder.getStatus();
+        dbOrder.setStatus(status);
 
         var orderDto = saveAndConvertToDto(dbOrder);
+        orderSummaryService.recordStatusChange(dbOrder, oldStatus);
+        orderCacheService.evictOrder(id);
 
         notificationService.sendOrderStatusChangeNotification(dbOrder.getUser().getEmail(), id, status);
 
@@ -96,17 +188,76 @@ public class OrderService {
         return orderDto;
     }
 
+    @Transactional
     public void deleteOrder(@NonNull Long id) {
-        var dbOrder = orderRepository.findById(id)
+        var dbOrder = orderRepository.findDetailedById(id)
                 .orElseThrow(() -> new OrderNotFoundException("Order with id #" + id + " not found"));
 
-        orderRepository.deleteById(id);
+        orderRepository.delete(dbOrder);
+        orderSummaryService.recordDeleted(dbOrder);
+        orderCacheService.evictOrder(id);
 
         log.info("Order with id #{} was deleted", id);
     }
 
-    private DbOrder createDbOrder(DbUser user, OrderInput input) {
-        return new DbOrder(user, input.products(), input.quantity(), OrderStatus.PENDING);
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return paginationConfig.getDefaultSize();
+        }
+        return Math.min(size, paginationConfig.getMaxSize());
+    }
+
+    private void groupByOrder(Iterator<OrderLineView> lines, Consumer<OrderDto> consumer) {
+        var orderLines = new ArrayList<OrderLineView>();
+        while (lines.hasNext()) {
+            var line = lines.next();
+            if (!orderLines.isEmpty() && !orderLines.getFirst().orderId().equals(line.orderId())) {
+                consumer.accept(orderMapper.viewsToDto(orderLines));
+                orderLines = new ArrayList<>();
+            }
+            orderLines.add(line);
+        }
+        if (!orderLines.isEmpty()) {
+            consumer.accept(orderMapper.viewsToDto(orderLines));
+        }
+    }
+
+    private List<DbOrderLine> findLines(List<OrderLineInput> lines) {
+        var quantities = mergeQuantities(lines);
+        return resolveLines(quantities, loadProducts(quantities.keySet()));
+    }
+
+    /**
+     * Quantity per product id, in the order the products first appear; a product listed twice
+     * becomes one line with the quantities added up.
+     */
+    private static Map<Long, Integer> mergeQuantities(List<OrderLineInput> lines) {
+        return lines.stream()
+                .collect(Collectors.toMap(OrderLineInput::id, OrderLineInput::quantityOrDefault,
+                        Integer::sum, LinkedHashMap::new));
+    }
+
+    private Map<Long, DbProduct> loadProducts(Collection<Long> ids) {
+        return productRepository.findByIdIn(ids.stream().filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(DbProduct::getId, Function.identity()));
+    }
+
+    private static List<DbOrderLine> resolveLines(Map<Long, Integer> quantities, Map<Long, DbProduct> dbProductsById) {
+        var missingIds = quantities.keySet().stream()
+                .filter(id -> !dbProductsById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new ProductNotFoundException("No valid products found for ids " + missingIds);
+        }
+
+        return quantities.entrySet().stream()
+                .map(entry -> new DbOrderLine(dbProductsById.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private DbOrder createDbOrder(DbUser user, List<DbOrderLine> lines, Integer quantity) {
+        return new DbOrder(user, lines, quantity, OrderStatus.PENDING);
     }
 
     private OrderDto saveAndConvertToDto(DbOrder order) {
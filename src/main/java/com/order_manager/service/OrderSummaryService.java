@@ -0,0 +1,82 @@
+package com.order_manager.service;
+
+import com.order_manager.dto.OrderStatusSummaryDto;
+import com.order_manager.dto.OrderSummaryDto;
+import com.order_manager.entity.DbOrder;
+import com.order_manager.entity.DbOrderSummary;
+import com.order_manager.entity.OrderStatus;
+import com.order_manager.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@code order_summary} read model. The record methods must run inside the
+ * transaction that changes the order, so the summary never drifts from the orders table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(DbOrder order) {
+        apply(order.getUser().getId(), order.getStatus(), 1, valueOf(order));
+    }
+
+    /** Applies one delta per user and status, rather than one per order. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<DbOrder> orders) {
+        orders.stream()
+                .collect(Collectors.groupingBy(order -> new DbOrderSummary.Key(order.getUser().getId(), order.getStatus())))
+                .forEach((key, group) -> apply(key.getUserId(), key.getStatus(), group.size(),
+                        group.stream().map(OrderSummaryService::valueOf).reduce(BigDecimal.ZERO, BigDecimal::add)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(DbOrder order, OrderStatus oldStatus) {
+        if (oldStatus == order.getStatus()) {
+            return;
+        }
+        var value = valueOf(order);
+        apply(order.getUser().getId(), oldStatus, -1, value.negate());
+        apply(order.getUser().getId(), order.getStatus(), 1, value);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(DbOrder order) {
+        apply(order.getUser().getId(), order.getStatus(), -1, valueOf(order).negate());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderSummaryDto getSummary(String username) {
+        var byStatus = orderSummaryRepository.findByUserName(username).stream()
+                .filter(row -> row.getOrderCount() > 0)
+                .map(row -> new OrderStatusSummaryDto(row.getStatus(), row.getOrderCount(), row.getTotalValue()))
+                .toList();
+        var orderCount = byStatus.stream().mapToLong(OrderStatusSummaryDto::orderCount).sum();
+        var totalValue = byStatus.stream().map(OrderStatusSummaryDto::totalValue).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        log.info("Order summary of user '{}' was retrieved", username);
+        return new OrderSummaryDto(orderCount, totalValue, byStatus);
+    }
+
+    private void apply(Long userId, OrderStatus status, long countDelta, BigDecimal valueDelta) {
+        if (status != null) {
+            orderSummaryRepository.applyDelta(userId, status.name(), countDelta, valueDelta);
+        }
+    }
+
+    /** The value stored at creation, so every change subtracts exactly what was added. */
+    private static BigDecimal valueOf(DbOrder order) {
+        return order.getTotalValue() == null ? BigDecimal.ZERO : order.getTotalValue();
+    }
+}
@@ -1,8 +1,10 @@
 package com.order_manager.service;
 
-import com.order_manager.client.ProductClient;
+import com.order_manager.catalog.ProductCatalog;
+import com.order_manager.config.ProductBulkConfig;
 import com.order_manager.dto.ProductInput;
 import com.order_manager.dto.ProductDto;
+import com.order_manager.exception.InvalidRequestException;
 import com.order_manager.exception.ProductExistException;
 import com.order_manager.exception.ProductNotFoundException;
 import lombok.NonNull;
@@ -10,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,10 +21,11 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ProductService {
 
-    private final ProductClient productClient;
+    private final ProductCatalog productCatalog;
+    private final ProductBulkConfig productBulkConfig;
 
     public List<ProductDto> getAllProducts() {
-        List<ProductDto> response = Optional.ofNullable(productClient.getAllProducts())
+        List<ProductDto> response = Optional.of(productCatalog.getAllProducts())
                     .filter(products -> !products.isEmpty())
                     .orElseThrow(() -> new ProductNotFoundException("Products not found"));
 
@@ -30,7 +34,7 @@ public class ProductService {
     }
 
     public ProductDto createProduct(ProductInput input) {
-        ProductDto response = Optional.ofNullable(productClient.createProduct(input))
+        ProductDto response = productCatalog.createProduct(input)
                 .orElseThrow(() -> new ProductExistException("Product  with name " + input.name() + " already exists"));
 
         log.info("Product with id #{} was created", response.id());
@@ -38,15 +42,27 @@ public class ProductService {
     }
 
     public ProductDto getProduct(@NonNull Long id) {
-        ProductDto response = Optional.ofNullable(productClient.getProduct(id))
+        ProductDto response = productCatalog.getProduct(id)
                     .orElseThrow(() -> new ProductNotFoundException("Product with id #" + id + " not found"));
 
         log.info("Product with id #{} was retrieved", id);
         return response;
     }
 
+    public List<ProductDto> getProducts(@NonNull Collection<Long> ids) {
+        var distinctIds = ids.stream().distinct().toList();
+        if (distinctIds.size() > productBulkConfig.getMaxIds()) {
+            throw new InvalidRequestException("At most " + productBulkConfig.getMaxIds() + " product ids can be requested at once");
+        }
+
+        var response = distinctIds.isEmpty() ? List.<ProductDto>of() : productCatalog.getProducts(distinctIds);
+
+        log.info("{} of {} requested products were retrieved", response.size(), distinctIds.size());
+        return response;
+    }
+
     public ProductDto updateProduct(@NonNull Long id, ProductInput input) {
-        ProductDto response = Optional.ofNullable(productClient.updateProduct(id, input))
+        ProductDto response = productCatalog.updateProduct(id, input)
                     .orElseThrow(() -> new ProductNotFoundException("Product with id #" + id + " not found"));
 
         log.info("Product with id #{} was updated", id);
@@ -54,10 +70,9 @@ public class ProductService {
     }
 
     public void deleteProduct(@NonNull Long id) {
-        Optional.ofNullable(productClient.getProduct(id))
-                .ifPresentOrElse(_ -> productClient.deleteProduct(id), () -> {
-                    throw new ProductNotFoundException("Product with id #" + id + " not found for delete");
-                });
+        if (!productCatalog.deleteProduct(id)) {
+            throw new ProductNotFoundException("Product with id #" + id + " not found for delete");
+        }
         log.info("Product with id #{} was deleted", id);
     }
 }
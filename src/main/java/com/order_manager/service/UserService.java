@@ -7,6 +7,7 @@ import com.order_manager.entity.DbUser;
 import com.order_manager.exception.UserNotFoundException;
 import com.order_manager.mapper.UserMapper;
 import com.order_manager.repository.UserRepository;
+import com.order_manager.security.JwtPrincipalResolver;
 import jakarta.persistence.EntityExistsException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -24,16 +25,17 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final JwtPrincipalResolver principalResolver;
 
     public UserDto createUser(UserInput input) {
         if (userRepository.findByName(input.name()).isPresent()) {
             throw new EntityExistsException("User with name " + input.name() + " already exists");
         }
         var dbUser = createDbUser(input);
+        var userDto = saveAndConvertToDto(dbUser);
 
-        UserDTO response = userMapper.dbToDto(userRepository.save(user));
-        return response;
         log.info("User with id #{} was created", userDto.id());
+        return userDto;
     }
 
     public List<UserDto> getAllUsers() {
@@ -55,11 +57,11 @@ public class UserService {
     }
 
     public UserDto updateUser(@NonNull Long id, UserInput input) {
-        if (userRepository.findById(id).isEmpty()) {
-            throw new UserNotFoundException("User with id #" + id + " not found");
-        }
+        var oldDbUser = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException("User with id #" + id + " not found"));
         var dbUser = createDbUser(id, input);
         var userDto = saveAndConvertToDto(dbUser);
+        principalResolver.evict(oldDbUser.getName());
 
         log.info("User with id #{} was updated", id);
         return userDto;
@@ -67,12 +69,19 @@ public class UserService {
 
     public void deleteUser(@NonNull Long id) {
         userRepository.findById(id)
-                .ifPresentOrElse(userRepository::delete,
+                .ifPresentOrElse(dbUser -> {
+                            userRepository.delete(dbUser);
+                            principalResolver.evict(dbUser.getName());
+                        },
                         () -> { throw new UserNotFoundException("User with id #" + id + " not found"); });
 
         log.info("Product with id #{} was deleted", id);
     }
 
+    private DbUser createDbUser(UserInput input) {
+        return new DbUser(input.name(), passwordEncoder.encode(input.password()), UserRole.USER, input.email());
+    }
+
     private DbUser createDbUser(Long id, UserInput input) {
         return new DbUser(id, input.name(), passwordEncoder.encode(input.password()), UserRole.USER, input.email());
     }
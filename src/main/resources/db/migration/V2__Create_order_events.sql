@@ -0,0 +1,13 @@
+CREATE TABLE order_events
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    order_id     BIGINT                                  NOT NULL,
+    recipient    TEXT                                    NOT NULL,
+    status       TEXT                                    NOT NULL,
+    attempts     INT4                     DEFAULT 0      NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE DEFAULT now()  NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE DEFAULT now()  NOT NULL,
+    CONSTRAINT pk_order_events PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_order_events_available_at ON order_events (available_at, id);
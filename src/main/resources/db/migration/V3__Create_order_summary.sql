@@ -0,0 +1,17 @@
+CREATE TABLE order_summary
+(
+    user_id     BIGINT                   NOT NULL,
+    status      TEXT                     NOT NULL,
+    order_count BIGINT         DEFAULT 0 NOT NULL,
+    total_value NUMERIC(19, 2) DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_order_summary PRIMARY KEY (user_id, status),
+    CONSTRAINT fk_order_summary_on_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO order_summary (user_id, status, order_count, total_value)
+SELECT o.user_id, o.status, COUNT(DISTINCT o.id), COALESCE(SUM(p.price), 0)
+FROM orders o
+         LEFT JOIN order_products op ON op.order_id = o.id
+         LEFT JOIN products p ON p.id = op.product_id
+WHERE o.status IS NOT NULL
+GROUP BY o.user_id, o.status;
@@ -0,0 +1,20 @@
+ALTER TABLE order_products
+    ADD COLUMN line_no INT4;
+
+UPDATE order_products op
+SET line_no = numbered.line_no
+FROM (SELECT ctid, ROW_NUMBER() OVER (PARTITION BY order_id ORDER BY product_id) - 1 AS line_no
+      FROM order_products) numbered
+WHERE op.ctid = numbered.ctid;
+
+ALTER TABLE order_products
+    ALTER COLUMN line_no SET NOT NULL;
+
+ALTER TABLE order_products
+    ADD CONSTRAINT pk_order_products PRIMARY KEY (order_id, line_no);
+
+CREATE INDEX idx_order_products_product_id ON order_products (product_id);
+
+CREATE INDEX idx_orders_user_id_id ON orders (user_id, id);
+
+CREATE INDEX idx_orders_status_pending ON orders (status) WHERE status = 'PENDING';
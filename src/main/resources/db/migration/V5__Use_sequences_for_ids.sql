@@ -0,0 +1,16 @@
+-- Hibernate allocates ids in blocks of 50 (pooled-lo): a value v fetched from the sequence
+-- reserves v..v+49, so the increment must match the entities' allocationSize
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+CREATE SEQUENCE orders_seq INCREMENT BY 50;
+
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+SELECT setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 1, false);
+
+-- Plain SQL inserts keep working and simply consume a whole block
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+ALTER SEQUENCE users_seq OWNED BY users.id;
+
+ALTER TABLE orders ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT nextval('orders_seq');
+ALTER SEQUENCE orders_seq OWNED BY orders.id;
@@ -0,0 +1,4 @@
+-- Span that queued the event, so the relay can continue its trace
+ALTER TABLE order_events
+    ADD COLUMN trace_id TEXT,
+    ADD COLUMN span_id  TEXT;
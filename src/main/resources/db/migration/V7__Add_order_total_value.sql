@@ -0,0 +1,22 @@
+-- Value of the order when it was placed; order_summary is maintained from it, so later
+-- price changes and product deletions no longer skew the summary
+ALTER TABLE orders
+    ADD COLUMN total_value NUMERIC(19, 2) DEFAULT 0 NOT NULL;
+
+-- Existing orders can only be valued at current prices
+UPDATE orders o
+SET total_value = v.total_value
+FROM (SELECT op.order_id, SUM(p.price) AS total_value
+      FROM order_products op
+               JOIN products p ON p.id = op.product_id
+      GROUP BY op.order_id) v
+WHERE v.order_id = o.id;
+
+-- Rebuild the summary from the stored values, dropping any drift accumulated so far
+DELETE FROM order_summary;
+
+INSERT INTO order_summary (user_id, status, order_count, total_value)
+SELECT user_id, status, COUNT(*), SUM(total_value)
+FROM orders
+WHERE status IS NOT NULL
+GROUP BY user_id, status;
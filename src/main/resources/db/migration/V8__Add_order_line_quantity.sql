@@ -0,0 +1,23 @@
+-- A line used to be stored as one row per unit; keep one row per product with its quantity instead
+ALTER TABLE order_products
+    ADD COLUMN quantity INT4;
+
+CREATE TEMPORARY TABLE order_lines_merged AS
+SELECT order_id,
+       product_id,
+       COUNT(*)                                                          AS quantity,
+       ROW_NUMBER() OVER (PARTITION BY order_id ORDER BY MIN(line_no)) - 1 AS line_no
+FROM order_products
+GROUP BY order_id, product_id;
+
+DELETE FROM order_products;
+
+INSERT INTO order_products (order_id, product_id, line_no, quantity)
+SELECT order_id, product_id, line_no, quantity
+FROM order_lines_merged;
+
+DROP TABLE order_lines_merged;
+
+ALTER TABLE order_products
+    ALTER COLUMN quantity SET NOT NULL,
+    ADD CONSTRAINT ck_order_products_quantity CHECK (quantity > 0);
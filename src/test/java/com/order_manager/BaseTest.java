@@ -1,5 +1,6 @@
 package com.order_manager;
 
+import com.order_manager.service.OrderCacheService;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,9 +14,13 @@ public abstract class BaseTest {
     @Autowired
     private Flyway flyway;
 
+    @Autowired
+    private OrderCacheService orderCacheService;
+
     @BeforeEach
     void cleanDatabase() {
         flyway.clean();
         flyway.migrate();
+        orderCacheService.clearLocal();
     }
 }
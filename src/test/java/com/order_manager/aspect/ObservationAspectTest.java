@@ -0,0 +1,89 @@
+package com.order_manager.aspect;
+
+import com.order_manager.controller.OrderController;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for ObservationAspect")
+public class ObservationAspectTest {
+
+    private static final String METHOD_NAME = "getOrder";
+    private static final String RESULT = "result";
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private Signature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObservationAspect observationAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        observationAspect = new ObservationAspect(observationRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(OrderController.class);
+        when(signature.getName()).thenReturn(METHOD_NAME);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Controller method that returns normally
+            WHEN Invoking it through the aspect
+            THEN The result should be returned and the call recorded without an error tag
+            """)
+    void shouldObserveSuccessfulCall() throws Throwable {
+        //GIVEN
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        //WHEN
+        var result = observationAspect.aroundAllControllerMethods(joinPoint);
+
+        //THEN
+        assertThat(result).isEqualTo(RESULT);
+        var timer = meterRegistry.get(ObservationAspect.CONTROLLER_OBSERVATION)
+                .tag("controller", "OrderController")
+                .tag("method", METHOD_NAME)
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Controller method that throws
+            WHEN Invoking it through the aspect
+            THEN The exception should be rethrown and the call recorded with its type
+            """)
+    void shouldObserveFailedCall() throws Throwable {
+        //GIVEN
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException());
+
+        //THEN
+        assertThatThrownBy(() -> observationAspect.aroundAllControllerMethods(joinPoint))
+                .isInstanceOf(IllegalStateException.class);
+
+        var timer = meterRegistry.get(ObservationAspect.CONTROLLER_OBSERVATION)
+                .tag("controller", "OrderController")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,186 @@
+package com.order_manager.aspect;
+
+import com.order_manager.BaseTest;
+import com.order_manager.client.UserWebClient;
+import com.order_manager.config.InMemorySpanExporter;
+import com.order_manager.dto.OrderInput;
+import com.order_manager.dto.OrderLineInput;
+import com.order_manager.entity.OrderStatus;
+import com.order_manager.notification.NotificationDispatcher;
+import com.order_manager.repository.OrderEventRepository;
+import com.order_manager.service.OrderService;
+import com.order_manager.service.ProductService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "product-catalog.mode=remote",
+        "product-catalog.remote.url=http://localhost:${wiremock.server.port}",
+        "product-cache.enabled=false",
+        "webclient.base-url=http://localhost:${wiremock.server.port}"
+})
+@AutoConfigureObservability(metrics = false)
+@AutoConfigureWireMock(port = 0)
+@DisplayName("Integration tests for tracing")
+public class TracingIntegrationTest extends BaseTest {
+
+    private static final String USER_NAME = "Name_1";
+    private static final Long PRODUCT_ID = 1L;
+    private static final Long ORDER_ID = 1L;
+    private static final Integer ORDER_QUANTITY = 1;
+    private static final String PRODUCTS_JSON = """
+            [{"id": 1, "name": "Product_1", "price": 1}]
+            """;
+    private static final String USER_JSON = """
+            {"id": 1, "name": "Name_1", "email": "email_1@example.com"}
+            """;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventRepository orderEventRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserWebClient userWebClient;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
+
+    @BeforeEach
+    void resetSpans() {
+        flushSpans();
+        spanExporter.reset();
+    }
+
+    @Test
+    @DisplayName("""
+            WHEN Creating an order
+            THEN The service call and its repository queries should be spans of one trace
+            """)
+    void shouldTraceServiceAndRepositoryCalls() {
+        //WHEN
+        orderService.createOrder(USER_NAME, new OrderInput(List.of(new OrderLineInput(PRODUCT_ID)), ORDER_QUANTITY));
+
+        //THEN
+        var spans = flushSpans();
+        var root = findSpan(spans, "OrderService.createOrder");
+        assertThat(spans)
+                .filteredOn(span -> span.getTraceId().equals(root.getTraceId()))
+                .extracting(SpanData::getName)
+                .contains("UserRepository.findByName", "ProductRepository.findByIdIn", "OrderRepository.save",
+                        "OrderSummaryService.recordCreated");
+        assertThat(findSpan(spans, "UserRepository.findByName").getParentSpanId()).isEqualTo(root.getSpanId());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Order status change that queued a notification
+            WHEN Dispatching the outbox later
+            THEN The delivery span should continue the trace of the status change
+            """)
+    void shouldContinueTraceThroughOutbox() {
+        //GIVEN
+        orderService.updateOrderStatus(ORDER_ID, OrderStatus.COMPLETED);
+        var root = findSpan(flushSpans(), "OrderService.updateOrderStatus");
+        assertThat(orderEventRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getTraceId()).isEqualTo(root.getTraceId()));
+
+        //WHEN
+        notificationDispatcher.dispatch();
+
+        //THEN
+        assertThat(findSpan(flushSpans(), "notification send").getTraceId()).isEqualTo(root.getTraceId());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Remote product catalog with coalesced lookups
+            WHEN Fetching a product
+            THEN The Feign client span should be a child of the service span
+            """)
+    void shouldParentFeignSpanOnServiceCall() {
+        //GIVEN
+        stubFor(get(urlPathEqualTo("/products")).withQueryParam("ids", equalTo(String.valueOf(PRODUCT_ID)))
+                .willReturn(okJson(PRODUCTS_JSON)));
+
+        //WHEN
+        productService.getProduct(PRODUCT_ID);
+
+        //THEN
+        var spans = flushSpans();
+        var root = findSpan(spans, "ProductService.getProduct");
+        assertThat(findClientSpan(spans, root.getTraceId()).getParentSpanId()).isEqualTo(root.getSpanId());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A request in progress
+            WHEN Fetching a user with the blocking WebClient call
+            THEN The WebClient span should be a child of the request's span
+            """)
+    void shouldParentWebClientSpanOnCaller() {
+        //GIVEN
+        stubFor(get(urlEqualTo("/users/1")).willReturn(okJson(USER_JSON)));
+
+        //WHEN
+        Observation.createNotStarted("request", observationRegistry).observe(() -> userWebClient.fetchUser(1L));
+
+        //THEN
+        var spans = flushSpans();
+        var root = findSpan(spans, "request");
+        assertThat(findClientSpan(spans, root.getTraceId()).getParentSpanId()).isEqualTo(root.getSpanId());
+    }
+
+    private List<SpanData> flushSpans() {
+        sdkTracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+        return spanExporter.getFinishedSpans();
+    }
+
+    private static SpanData findSpan(List<SpanData> spans, String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+    }
+
+    private static SpanData findClientSpan(List<SpanData> spans, String traceId) {
+        return spans.stream()
+                .filter(span -> span.getKind() == SpanKind.CLIENT && span.getTraceId().equals(traceId))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No client span in trace " + traceId + " among " + spans));
+    }
+}
@@ -0,0 +1,96 @@
+package com.order_manager.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for LocalCache")
+public class LocalCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached value
+            WHEN Fetching the value
+            THEN Value should be returned and counted as a hit
+            """)
+    void shouldReturnCachedValue() {
+        //GIVEN
+        var cache = new LocalCache<Long, String>(2, TTL, clock);
+        cache.put(1L, "one");
+
+        //WHEN
+        var value = cache.get(1L);
+
+        //THEN
+        assertThat(value).contains("one");
+        assertThat(cache.stats()).isEqualTo(new CacheStats(1, 0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Full cache
+            WHEN Adding one more value
+            THEN Least recently used value should be evicted
+            """)
+    void shouldEvictLeastRecentlyUsed_whenFull() {
+        //GIVEN
+        var cache = new LocalCache<Long, String>(2, TTL, clock);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        //WHEN
+        cache.put(3L, "three");
+
+        //THEN
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(1L)).contains("one");
+        assertThat(cache.get(3L)).contains("three");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached value
+            WHEN TTL has passed
+            THEN Value should be expired
+            """)
+    void shouldExpireValue_whenTtlPassed() {
+        //GIVEN
+        var cache = new LocalCache<Long, String>(2, TTL, clock);
+        cache.put(1L, "one");
+
+        //WHEN
+        clock.advance(TTL);
+
+        //THEN
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.stats()).isEqualTo(new CacheStats(0, 1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached value
+            WHEN Invalidating the value
+            THEN Value should no longer be returned
+            """)
+    void shouldInvalidateValue() {
+        //GIVEN
+        var cache = new LocalCache<Long, String>(2, TTL, clock);
+        cache.put(1L, "one");
+
+        //WHEN
+        cache.invalidate(1L);
+
+        //THEN
+        assertThat(cache.get(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.order_manager.catalog;
+
+import com.order_manager.cache.MutableClock;
+import com.order_manager.dto.ProductDto;
+import com.order_manager.dto.ProductInput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for CachingProductCatalog")
+public class CachingProductCatalogTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration REFRESH_AHEAD = Duration.ofMinutes(1);
+    private static final Duration MAX_STALE = Duration.ofMinutes(10);
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final ProductDto PRODUCT = new ProductDto(PRODUCT_ID, "Product_name_1", BigDecimal.ONE);
+    private static final ProductDto PRODUCT_UPDATED = new ProductDto(PRODUCT_ID, "Product_name_new", BigDecimal.TEN);
+
+    @Mock
+    private ProductCatalog delegate;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private CachingProductCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CachingProductCatalog(delegate, Runnable::run, 100, TTL, REFRESH_AHEAD, MAX_STALE, clock);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Product loaded once
+            WHEN Fetching it again within the ttl
+            THEN Product should be served from the cache
+            """)
+    void shouldServeProductFromCache() {
+        //GIVEN
+        when(delegate.getProduct(PRODUCT_ID)).thenReturn(Optional.of(PRODUCT));
+        catalog.getProduct(PRODUCT_ID);
+
+        //WHEN
+        var product = catalog.getProduct(PRODUCT_ID);
+
+        //THEN
+        assertThat(product).contains(PRODUCT);
+        verify(delegate, times(1)).getProduct(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached product inside the refresh-ahead window
+            WHEN Fetching the product
+            THEN Cached value should be served and reloaded in the background
+            """)
+    void shouldRefreshAhead() {
+        //GIVEN
+        when(delegate.getProduct(PRODUCT_ID)).thenReturn(Optional.of(PRODUCT), Optional.of(PRODUCT_UPDATED));
+        catalog.getProduct(PRODUCT_ID);
+        clock.advance(TTL.minus(REFRESH_AHEAD));
+
+        //WHEN
+        var served = catalog.getProduct(PRODUCT_ID);
+
+        //THEN
+        assertThat(served).contains(PRODUCT);
+        assertThat(catalog.getProduct(PRODUCT_ID)).contains(PRODUCT_UPDATED);
+        assertThat(catalog.getRefreshes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Expired product and failing upstream
+            WHEN Fetching the product
+            THEN Stale product should be served until max-stale runs out
+            """)
+    void shouldServeStale_whenUpstreamFails() {
+        //GIVEN
+        when(delegate.getProduct(PRODUCT_ID))
+                .thenReturn(Optional.of(PRODUCT))
+                .thenThrow(new IllegalStateException("Catalog down"));
+        catalog.getProduct(PRODUCT_ID);
+        clock.advance(TTL);
+
+        //WHEN
+        var stale = catalog.getProduct(PRODUCT_ID);
+
+        //THEN
+        assertThat(stale).contains(PRODUCT);
+        assertThat(catalog.getStaleServed()).isEqualTo(1);
+
+        clock.advance(MAX_STALE);
+        assertThatThrownBy(() -> catalog.getProduct(PRODUCT_ID)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached catalog snapshot
+            WHEN Updating a product
+            THEN Snapshot should be reloaded and the updated product cached
+            """)
+    void shouldInvalidateOnUpdate() {
+        //GIVEN
+        var input = new ProductInput(PRODUCT_UPDATED.name(), "Product_description_new", PRODUCT_UPDATED.price());
+        when(delegate.getAllProducts()).thenReturn(List.of(PRODUCT), List.of(PRODUCT_UPDATED));
+        when(delegate.updateProduct(PRODUCT_ID, input)).thenReturn(Optional.of(PRODUCT_UPDATED));
+        catalog.getAllProducts();
+
+        //WHEN
+        catalog.updateProduct(PRODUCT_ID, input);
+
+        //THEN
+        assertThat(catalog.getAllProducts()).containsExactly(PRODUCT_UPDATED);
+        assertThat(catalog.getProduct(PRODUCT_ID)).contains(PRODUCT_UPDATED);
+        verify(delegate, times(2)).getAllProducts();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN One cached and one uncached product
+            WHEN Fetching both by ids
+            THEN Only the uncached product should be loaded
+            """)
+    void shouldLoadOnlyMissingProducts() {
+        //GIVEN
+        var other = new ProductDto(2L, "Product_name_2", BigDecimal.TWO);
+        when(delegate.getProduct(PRODUCT_ID)).thenReturn(Optional.of(PRODUCT));
+        when(delegate.getProducts(List.of(2L))).thenReturn(List.of(other));
+        catalog.getProduct(PRODUCT_ID);
+
+        //WHEN
+        var products = catalog.getProducts(List.of(PRODUCT_ID, 2L));
+
+        //THEN
+        assertThat(products).containsExactly(PRODUCT, other);
+        verify(delegate, times(1)).getProducts(List.of(2L));
+    }
+}
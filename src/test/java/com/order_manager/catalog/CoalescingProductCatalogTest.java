@@ -0,0 +1,177 @@
+package com.order_manager.catalog;
+
+import com.order_manager.dto.ProductDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for CoalescingProductCatalog")
+public class CoalescingProductCatalogTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(100);
+
+    @Mock
+    private ProductCatalog delegate;
+
+    private CoalescingProductCatalog catalog;
+
+    @AfterEach
+    void tearDown() {
+        catalog.close();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Concurrent single-id lookups within one window
+            WHEN Looking the products up
+            THEN One bulk call should serve all of them
+            """)
+    void shouldCoalesceConcurrentLookups() {
+        //GIVEN
+        catalog = new CoalescingProductCatalog(delegate, WINDOW, 100);
+        when(delegate.getProducts(anyCollection())).thenAnswer(invocation -> products(invocation.getArgument(0)));
+
+        //WHEN
+        List<ProductDto> results;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = LongStream.of(1L, 2L, 3L, 2L)
+                    .mapToObj(id -> CompletableFuture.supplyAsync(() -> catalog.getProduct(id).orElseThrow(), executor))
+                    .toList();
+            results = futures.stream().map(CompletableFuture::join).toList();
+        }
+
+        //THEN
+        assertThat(results).extracting(ProductDto::id).containsExactly(1L, 2L, 3L, 2L);
+        verify(delegate, times(1)).getProducts(anyCollection());
+        assertThat(catalog.getBatches()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Lookup of an unknown id
+            WHEN Bulk call does not return it
+            THEN Empty result should be returned
+            """)
+    void shouldReturnEmpty_whenProductMissing() {
+        //GIVEN
+        catalog = new CoalescingProductCatalog(delegate, Duration.ofMillis(1), 100);
+        when(delegate.getProducts(anyCollection())).thenReturn(List.of());
+
+        //WHEN
+        var product = catalog.getProduct(42L);
+
+        //THEN
+        assertThat(product).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Failing bulk call
+            WHEN Looking a product up
+            THEN Failure should be rethrown to the caller
+            """)
+    void shouldRethrowBulkFailure() {
+        //GIVEN
+        catalog = new CoalescingProductCatalog(delegate, Duration.ofMillis(1), 100);
+        when(delegate.getProducts(anyCollection())).thenThrow(new IllegalStateException("Catalog down"));
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(() -> catalog.getProduct(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Catalog down");
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A bulk call that is still running
+            WHEN The window of the next batch ends
+            THEN The next batch should be loaded without waiting for it
+            """)
+    void shouldLoadBatchesConcurrently() throws InterruptedException {
+        //GIVEN
+        catalog = new CoalescingProductCatalog(delegate, Duration.ofMillis(10), 100);
+        var firstReleased = new CountDownLatch(1);
+        when(delegate.getProducts(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(1L)) {
+                firstReleased.await();
+            }
+            return products(ids);
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = CompletableFuture.supplyAsync(() -> catalog.getProduct(1L), executor);
+            Thread.sleep(WINDOW.toMillis());
+
+            //WHEN
+            var second = CompletableFuture.supplyAsync(() -> catalog.getProduct(2L), executor);
+
+            //THEN
+            try {
+                assertThat(second).succeedsWithin(Duration.ofSeconds(1))
+                        .satisfies(product -> assertThat(product).map(ProductDto::id).contains(2L));
+                assertThat(first).isNotDone();
+            } finally {
+                firstReleased.countDown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A batch flushed early because it was full
+            WHEN Its timer fires during the next batch's window
+            THEN The next batch should keep collecting until its own window ends
+            """)
+    void shouldIgnoreTimerOfBatchFlushedEarly() throws InterruptedException {
+        //GIVEN
+        var window = Duration.ofMillis(300);
+        catalog = new CoalescingProductCatalog(delegate, window, 2);
+        when(delegate.getProducts(anyCollection())).thenAnswer(invocation -> products(invocation.getArgument(0)));
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var fullBatch = LongStream.of(1L, 2L)
+                    .mapToObj(id -> CompletableFuture.supplyAsync(() -> catalog.getProduct(id), executor))
+                    .toList();
+            fullBatch.forEach(CompletableFuture::join);
+            Thread.sleep(window.toMillis() / 2);
+
+            //WHEN
+            var third = CompletableFuture.supplyAsync(() -> catalog.getProduct(3L), executor);
+            Thread.sleep(window.toMillis() * 2 / 3);
+            var fourth = CompletableFuture.supplyAsync(() -> catalog.getProduct(4L), executor);
+            third.join();
+            fourth.join();
+        }
+
+        //THEN
+        verify(delegate, times(2)).getProducts(anyCollection());
+    }
+
+    private static List<ProductDto> products(Collection<Long> ids) {
+        return ids.stream()
+                .map(id -> new ProductDto(id, "Product_name_" + id, BigDecimal.ONE))
+                .toList();
+    }
+}
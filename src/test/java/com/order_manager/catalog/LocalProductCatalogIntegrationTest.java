@@ -0,0 +1,78 @@
+package com.order_manager.catalog;
+
+import com.order_manager.BaseTest;
+import com.order_manager.config.ProductCatalogConfig;
+import com.order_manager.dto.ProductInput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for LocalProductCatalog")
+public class LocalProductCatalogIntegrationTest extends BaseTest {
+
+    private static final Long PRODUCT_ID_1 = 1L;
+    private static final Long PRODUCT_ID_MISSING = 100L;
+    private static final String PRODUCT_NAME_1 = "Product_1";
+    private static final String PRODUCT_NAME_NEW = "Product_new";
+    private static final String PRODUCT_DESCRIPTION_NEW = "Product_description_new";
+
+    @Autowired
+    @Qualifier(ProductCatalogConfig.SOURCE)
+    private ProductCatalog productCatalog;
+
+    @Test
+    @DisplayName("""
+            GIVEN Local catalog mode
+            WHEN Resolving the catalog
+            THEN Database-backed catalog should be used
+            """)
+    void shouldUseLocalCatalogByDefault() {
+        //THEN
+        assertThat(productCatalog).isInstanceOf(LocalProductCatalog.class);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Product in the database
+            WHEN Fetching the product
+            THEN Product should be read without an HTTP call
+            """)
+    void shouldGetProductFromDatabase() {
+        //WHEN
+        var product = productCatalog.getProduct(PRODUCT_ID_1);
+
+        //THEN
+        assertThat(product).hasValueSatisfying(dto -> {
+            assertThat(dto.id()).isEqualTo(PRODUCT_ID_1);
+            assertThat(dto.name()).isEqualTo(PRODUCT_NAME_1);
+            assertThat(dto.price()).isEqualByComparingTo(BigDecimal.ONE);
+        });
+        assertThat(productCatalog.getProduct(PRODUCT_ID_MISSING)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Existing product
+            WHEN Updating and then deleting the product
+            THEN Product should be changed and removed from the database
+            """)
+    void shouldUpdateAndDeleteProduct() {
+        //GIVEN
+        var input = new ProductInput(PRODUCT_NAME_NEW, PRODUCT_DESCRIPTION_NEW, BigDecimal.TEN);
+
+        //WHEN
+        var updated = productCatalog.updateProduct(PRODUCT_ID_1, input);
+        var deleted = productCatalog.deleteProduct(PRODUCT_ID_1);
+
+        //THEN
+        assertThat(updated).hasValueSatisfying(product -> assertThat(product.name()).isEqualTo(PRODUCT_NAME_NEW));
+        assertThat(deleted).isTrue();
+        assertThat(productCatalog.getProduct(PRODUCT_ID_1)).isEmpty();
+        assertThat(productCatalog.deleteProduct(PRODUCT_ID_1)).isFalse();
+    }
+}
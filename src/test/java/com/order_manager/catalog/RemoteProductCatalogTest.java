@@ -0,0 +1,85 @@
+package com.order_manager.catalog;
+
+import com.order_manager.client.ProductClient;
+import com.order_manager.dto.ProductDto;
+import feign.FeignException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for RemoteProductCatalog")
+public class RemoteProductCatalogTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private ProductClient productClient;
+
+    @InjectMocks
+    private RemoteProductCatalog productCatalog;
+
+    @Test
+    @DisplayName("""
+            GIVEN Existing remote product
+            WHEN Fetching the product
+            THEN Product should be returned
+            """)
+    void shouldGetProduct() {
+        //GIVEN
+        var product = new ProductDto(PRODUCT_ID, "Product_name_1", BigDecimal.ONE);
+        when(productClient.getProduct(PRODUCT_ID)).thenReturn(product);
+
+        //WHEN
+        var actualProduct = productCatalog.getProduct(PRODUCT_ID);
+
+        //THEN
+        assertThat(actualProduct).contains(product);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Remote service answering 404
+            WHEN Fetching or deleting the product
+            THEN Empty result should be returned
+            """)
+    void shouldReturnEmpty_whenRemoteProductNotFound() {
+        //GIVEN
+        when(productClient.getProduct(PRODUCT_ID)).thenThrow(FeignException.NotFound.class);
+        doThrow(FeignException.NotFound.class).when(productClient).deleteProduct(PRODUCT_ID);
+
+        //WHEN
+        var actualProduct = productCatalog.getProduct(PRODUCT_ID);
+        var deleted = productCatalog.deleteProduct(PRODUCT_ID);
+
+        //THEN
+        assertThat(actualProduct).isEmpty();
+        assertThat(deleted).isFalse();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Unavailable remote service
+            WHEN Fetching the product
+            THEN Feign exception should propagate
+            """)
+    void shouldPropagateOtherFeignErrors() {
+        //GIVEN
+        when(productClient.getProduct(PRODUCT_ID)).thenThrow(FeignException.ServiceUnavailable.class);
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(() -> productCatalog.getProduct(PRODUCT_ID))
+                .isInstanceOf(FeignException.ServiceUnavailable.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.order_manager.catalog;
+
+import com.order_manager.config.ProductCatalogConfig;
+import com.order_manager.exception.ExternalServiceException;
+import com.order_manager.resilience.ResilientCaller;
+import feign.FeignException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.contract.wiremock.AutoConfigureWireMock;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
+import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "product-catalog.mode=remote",
+        "product-catalog.remote.url=http://localhost:${wiremock.server.port}",
+        "product-catalog.remote.coalescing-window=0ms",
+        "product-catalog.remote.timeouts.get-product=500ms",
+        "product-catalog.remote.circuit-breaker.sliding-window-size=3",
+        "product-catalog.remote.circuit-breaker.minimum-calls=3",
+        "product-catalog.remote.circuit-breaker.failure-rate-threshold=100",
+        "product-catalog.remote.circuit-breaker.open-duration=1m",
+        "product-catalog.remote.hedging.enabled=true",
+        "product-catalog.remote.hedging.delay=100ms",
+        "product-cache.enabled=false"
+})
+@ActiveProfiles("test")
+@AutoConfigureWireMock(port = 0)
+@DisplayName("Integration tests for ResilientProductCatalog against a stubbed product service")
+class ResilientProductCatalogIntegrationTest {
+
+    private static final String PRODUCT_URL = "/products/1";
+    private static final String PRODUCT_JSON = """
+            {"id": 1, "name": "Product_1", "price": 1}
+            """;
+
+    @Autowired
+    @Qualifier(ProductCatalogConfig.SOURCE)
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private ResilientCaller productServiceCaller;
+
+    @BeforeEach
+    void resetRequests() {
+        resetAllRequests();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Product service slower than the call timeout
+            WHEN Fetching a product
+            THEN ExternalServiceException should be thrown at the deadline
+            """)
+    void shouldTimeOut_whenProductServiceIsSlow() {
+        //GIVEN
+        stubFor(get(urlEqualTo(PRODUCT_URL)).willReturn(okJson(PRODUCT_JSON).withFixedDelay(2000)));
+        var startedAt = System.nanoTime();
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(() -> productCatalog.getProduct(1L))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("timed out");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(1500));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN First attempt slow and second fast
+            WHEN Fetching a product with hedging enabled
+            THEN Hedged attempt should answer before the slow one
+            """)
+    void shouldReturnHedgedResult_whenFirstAttemptIsSlow() {
+        //GIVEN
+        stubFor(get(urlEqualTo(PRODUCT_URL)).inScenario("hedge").whenScenarioStateIs(STARTED)
+                .willReturn(okJson(PRODUCT_JSON).withFixedDelay(2000))
+                .willSetStateTo("fast"));
+        stubFor(get(urlEqualTo(PRODUCT_URL)).inScenario("hedge").whenScenarioStateIs("fast")
+                .willReturn(okJson(PRODUCT_JSON)));
+        var hedgesBefore = productServiceCaller.getStats().hedges();
+
+        //WHEN
+        var product = productCatalog.getProduct(1L);
+
+        //THEN
+        assertThat(product).hasValueSatisfying(dto -> assertThat(dto.id()).isEqualTo(1L));
+        assertThat(productServiceCaller.getStats().hedges()).isEqualTo(hedgesBefore + 1);
+        verify(2, getRequestedFor(urlEqualTo(PRODUCT_URL)));
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("""
+            GIVEN Product service failing with server errors
+            WHEN Failures fill the breaker window
+            THEN Further calls should be rejected without reaching the service
+            """)
+    void shouldOpenCircuit_whenProductServiceKeepsFailing() {
+        //GIVEN
+        stubFor(get(urlEqualTo(PRODUCT_URL)).willReturn(serverError()));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> productCatalog.getProduct(1L)).isInstanceOf(FeignException.class);
+        }
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(() -> productCatalog.getProduct(1L))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("Circuit breaker");
+        verify(3, getRequestedFor(urlEqualTo(PRODUCT_URL)));
+    }
+}
@@ -0,0 +1,88 @@
+package com.order_manager.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionPoolMetrics;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit tests for HttpPoolMetrics")
+public class HttpPoolMetricsTest {
+
+    private static final InetSocketAddress REMOTE = InetSocketAddress.createUnresolved("localhost", 8080);
+
+    @Test
+    @DisplayName("""
+            GIVEN Feign pool and a registered WebClient pool
+            WHEN Reading the pool stats
+            THEN Both pools should be reported with their limits and usage
+            """)
+    void shouldReportFeignAndWebClientPools() {
+        //GIVEN
+        var connectionManager = PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(20).build();
+        var metrics = new HttpPoolMetrics(connectionManager);
+        var webClientPool = mock(ConnectionPoolMetrics.class);
+        when(webClientPool.acquiredSize()).thenReturn(3);
+        when(webClientPool.idleSize()).thenReturn(2);
+        when(webClientPool.pendingAcquireSize()).thenReturn(1);
+        when(webClientPool.maxAllocatedSize()).thenReturn(200);
+        metrics.registerMetrics("webclient", "1", REMOTE, webClientPool);
+
+        //WHEN
+        var stats = metrics.getStats();
+
+        //THEN
+        assertThat(stats).containsExactly(
+                new HttpPoolStats("feign", 0, 0, 0, 20),
+                new HttpPoolStats("webclient/" + REMOTE, 3, 2, 1, 200));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Registered WebClient pool
+            WHEN The pool is disposed
+            THEN Pool should no longer be reported
+            """)
+    void shouldDropDeregisteredPool() {
+        //GIVEN
+        var metrics = new HttpPoolMetrics(PoolingHttpClientConnectionManagerBuilder.create().build());
+        metrics.registerMetrics("webclient", "1", REMOTE, mock(ConnectionPoolMetrics.class));
+
+        //WHEN
+        metrics.deRegisterMetrics("webclient", "1", REMOTE);
+
+        //THEN
+        assertThat(metrics.getStats()).extracting(HttpPoolStats::pool).containsExactly("feign");
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Metrics bound to a meter registry
+            WHEN A WebClient pool is registered and later disposed
+            THEN Its gauges should be published next to the Feign pool and removed with the pool
+            """)
+    void shouldPublishPoolGauges() {
+        //GIVEN
+        var registry = new SimpleMeterRegistry();
+        var metrics = new HttpPoolMetrics(PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(20).build());
+        metrics.bindTo(registry);
+        var webClientPool = mock(ConnectionPoolMetrics.class);
+        when(webClientPool.acquiredSize()).thenReturn(3);
+
+        //WHEN
+        metrics.registerMetrics("webclient", "1", REMOTE, webClientPool);
+
+        //THEN
+        assertThat(registry.get("http.client.pool.max").tag("pool", "feign").gauge().value()).isEqualTo(20);
+        assertThat(registry.get("http.client.pool.leased").tag("pool", "webclient/" + REMOTE).gauge().value()).isEqualTo(3);
+
+        metrics.deRegisterMetrics("webclient", "1", REMOTE);
+        assertThat(registry.find("http.client.pool.leased").tag("pool", "webclient/" + REMOTE).gauge()).isNull();
+    }
+}
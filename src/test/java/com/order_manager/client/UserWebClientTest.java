@@ -0,0 +1,68 @@
+package com.order_manager.client;
+
+import com.order_manager.dto.UserDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for UserWebClient")
+public class UserWebClientTest {
+
+    private static final int CONCURRENCY = 3;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final UserWebClient userWebClient = new UserWebClient(WebClient.builder()
+            .exchangeFunction(request -> {
+                var id = request.url().getPath().substring(request.url().getPath().lastIndexOf('/') + 1);
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return Mono.delay(Duration.ofMillis(20))
+                        .map(_ -> ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body("{\"id\": " + id + ", \"name\": \"Name_" + id + "\", \"email\": \"email_" + id + "@example.com\"}")
+                                .build())
+                        .doFinally(_ -> inFlight.decrementAndGet());
+            })
+            .build(), CONCURRENCY);
+
+    @Test
+    @DisplayName("""
+            GIVEN Remote user
+            WHEN Fetching the user reactively
+            THEN User should be emitted
+            """)
+    void shouldFetchUser() {
+        //WHEN
+        var user = userWebClient.fetchUserMono(1L).block();
+
+        //THEN
+        assertThat(user).isEqualTo(new UserDto(1L, "Name_1", "email_1@example.com"));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN More user ids than the fetch concurrency
+            WHEN Fetching the users as a stream
+            THEN All users should be emitted with bounded requests in flight
+            """)
+    void shouldFetchUsersWithBoundedConcurrency() {
+        //WHEN
+        var users = userWebClient.fetchUsers(Flux.range(1, 10).map(Long::valueOf)).collectList().block();
+
+        //THEN
+        assertThat(users).extracting(UserDto::id).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(maxInFlight.get()).isEqualTo(CONCURRENCY);
+    }
+}
@@ -0,0 +1,147 @@
+package com.order_manager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for ConnectionPoolHealthIndicator and ConnectionPoolSizeCheck")
+public class ConnectionPoolHealthIndicatorTest {
+
+    private static final int POOL_SIZE = 20;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A pool with idle connections
+            WHEN Checking health
+            THEN The pool should be UP with its usage
+            """)
+    void shouldReportUpWhenConnectionsAreIdle() {
+        //GIVEN
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(dataSource.getMaximumPoolSize()).thenReturn(POOL_SIZE);
+        when(pool.getActiveConnections()).thenReturn(5);
+        when(pool.getIdleConnections()).thenReturn(15);
+
+        //WHEN
+        var health = new ConnectionPoolHealthIndicator(dataSource).health();
+
+        //THEN
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails())
+                .containsEntry("active", 5)
+                .containsEntry("idle", 15)
+                .containsEntry("waiting", 0)
+                .containsEntry("max", POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A pool with no idle connections and waiting threads
+            WHEN Checking health
+            THEN The pool should be SATURATED
+            """)
+    void shouldReportSaturatedWhenThreadsWait() {
+        //GIVEN
+        when(dataSource.getHikariPoolMXBean()).thenReturn(pool);
+        when(pool.getActiveConnections()).thenReturn(POOL_SIZE);
+        when(pool.getThreadsAwaitingConnection()).thenReturn(3);
+
+        //WHEN
+        var health = new ConnectionPoolHealthIndicator(dataSource).health();
+
+        //THEN
+        assertThat(health.getStatus()).isEqualTo(ConnectionPoolHealthIndicator.SATURATED);
+        assertThat(health.getDetails()).containsEntry("waiting", 3);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A pool that has not started yet
+            WHEN Checking health
+            THEN The pool should be UNKNOWN
+            """)
+    void shouldReportUnknownBeforePoolStarts() {
+        //WHEN
+        var health = new ConnectionPoolHealthIndicator(dataSource).health();
+
+        //THEN
+        assertThat(health.getStatus()).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Platform threads that outnumber the pool
+            WHEN Checking the pool size at startup
+            THEN The pool should be reported as undersized
+            """)
+    void shouldFlagPoolSmallerThanThreadCount() {
+        //GIVEN
+        when(dataSource.getMaximumPoolSize()).thenReturn(POOL_SIZE);
+        var check = new ConnectionPoolSizeCheck(dataSource, false, 200, 1);
+
+        //WHEN
+        var undersized = check.isUndersized();
+
+        //THEN
+        assertThat(undersized).isTrue();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A pool large enough for request, async and scheduler threads
+            WHEN Checking the pool size at startup
+            THEN The pool should not be reported as undersized
+            """)
+    void shouldAcceptPoolCoveringThreadCount() {
+        //GIVEN
+        int threads = 7 + AsyncConfig.PLATFORM_MAX_POOL_SIZE + 1;
+        when(dataSource.getMaximumPoolSize()).thenReturn(threads);
+        var check = new ConnectionPoolSizeCheck(dataSource, false, 7, 1);
+
+        //WHEN
+        var undersized = check.isUndersized();
+
+        //THEN
+        assertThat(undersized).isFalse();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Virtual threads and a pool smaller than Tomcat's connection limit
+            WHEN Checking the pool size at startup
+            THEN The check should be skipped
+            """)
+    void shouldSkipCheckWithVirtualThreads() {
+        //GIVEN
+        var check = new ConnectionPoolSizeCheck(dataSource, true, 200, 1);
+
+        //WHEN
+        var undersized = check.isUndersized();
+
+        //THEN
+        assertThat(undersized).isFalse();
+    }
+}
@@ -0,0 +1,119 @@
+package com.order_manager.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for LogSamplingFilter")
+public class LogSamplingFilterTest {
+
+    private static final String SAMPLED_LOGGER = "com.order_manager.service.OrderService";
+    private static final String OTHER_LOGGER = "com.order_manager.security.JwtAuthFilter";
+    private static final int RATE = 10;
+    private static final int EVENTS = 100_000;
+
+    private final LoggerContext context = new LoggerContext();
+    private LogSamplingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LogSamplingFilter();
+        filter.setRate(RATE);
+        filter.setLoggers("com.order_manager.aspect, com.order_manager.service");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN INFO events of a sampled logger
+            WHEN Filtering many of them
+            THEN About one in rate events should pass
+            """)
+    void shouldKeepOneInRateEvents() {
+        //WHEN
+        var kept = IntStream.range(0, EVENTS)
+                .filter(_ -> decide(SAMPLED_LOGGER, Level.INFO) == FilterReply.NEUTRAL)
+                .count();
+
+        //THEN
+        assertThat(kept).isBetween(EVENTS / RATE * 8 / 10L, EVENTS / RATE * 12 / 10L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN INFO events of a sampled logger within many traces
+            WHEN Filtering several events per trace
+            THEN All events of a trace should share one decision, and about one in rate traces should pass
+            """)
+    void shouldDecideOncePerTrace() {
+        //WHEN
+        var keptTraces = IntStream.range(0, EVENTS / 10)
+                .filter(_ -> {
+                    MDC.put(LogSamplingFilter.TRACE_ID_KEY, UUID.randomUUID().toString().replace("-", ""));
+                    var decisions = IntStream.range(0, 5)
+                            .mapToObj(_ -> decide(SAMPLED_LOGGER, Level.INFO))
+                            .distinct()
+                            .toList();
+                    assertThat(decisions).hasSize(1);
+                    return decisions.getFirst() == FilterReply.NEUTRAL;
+                })
+                .count();
+
+        //THEN
+        assertThat(keptTraces).isBetween(EVENTS / 10 / RATE * 8 / 10L, EVENTS / 10 / RATE * 12 / 10L);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN WARN events of a sampled logger
+            WHEN Filtering them
+            THEN All of them should pass
+            """)
+    void shouldKeepWarnings() {
+        //THEN
+        IntStream.range(0, 1000).forEach(_ -> assertThat(decide(SAMPLED_LOGGER, Level.WARN)).isEqualTo(FilterReply.NEUTRAL));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN INFO events of a logger outside the sampled prefixes
+            WHEN Filtering them
+            THEN All of them should pass
+            """)
+    void shouldKeepOtherLoggers() {
+        //THEN
+        IntStream.range(0, 1000).forEach(_ -> assertThat(decide(OTHER_LOGGER, Level.INFO)).isEqualTo(FilterReply.NEUTRAL));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Sampling rate of 1
+            WHEN Filtering INFO events of a sampled logger
+            THEN All of them should pass
+            """)
+    void shouldKeepEverything_whenRateIsOne() {
+        //GIVEN
+        filter.setRate(1);
+
+        //THEN
+        IntStream.range(0, 1000).forEach(_ -> assertThat(decide(SAMPLED_LOGGER, Level.INFO)).isEqualTo(FilterReply.NEUTRAL));
+    }
+
+    private FilterReply decide(String loggerName, Level level) {
+        return filter.decide(null, context.getLogger(loggerName), level, "message", null, null);
+    }
+}
@@ -0,0 +1,54 @@
+package com.order_manager.config;
+
+import com.order_manager.cache.CacheStats;
+import com.order_manager.catalog.CachingProductCatalog;
+import com.order_manager.catalog.CoalescingProductCatalog;
+import com.order_manager.catalog.ProductCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Unit tests for MetricsConfig")
+public class MetricsConfigTest {
+
+    private final MetricsConfig metricsConfig = new MetricsConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("""
+            GIVEN A product cache in front of a coalescing remote catalog
+            WHEN Binding the product catalog metrics
+            THEN The counters of both decorators should be published
+            """)
+    void shouldPublishProductCatalogCounters() {
+        //GIVEN
+        var caching = mock(CachingProductCatalog.class);
+        when(caching.getStats()).thenReturn(new CacheStats(5, 2, 1, 3));
+        when(caching.getRefreshes()).thenReturn(4L);
+        when(caching.getStaleServed()).thenReturn(1L);
+        var coalescing = mock(CoalescingProductCatalog.class);
+        when(coalescing.getLookups()).thenReturn(10L);
+        when(coalescing.getBatches()).thenReturn(2L);
+        var beanFactory = new StaticListableBeanFactory(Map.of("cachingProductCatalog", caching,
+                "remoteProductCatalog", coalescing));
+
+        //WHEN
+        metricsConfig.productCatalogMetrics(beanFactory.getBeanProvider(ProductCatalog.class)).bindTo(registry);
+
+        //THEN
+        assertThat(registry.get("cache.gets").tag("cache", "products").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(5);
+        assertThat(registry.get("cache.size").tag("cache", "products").gauge().value()).isEqualTo(3);
+        assertThat(registry.get("product.cache.refreshes").functionCounter().count()).isEqualTo(4);
+        assertThat(registry.get("product.cache.stale.served").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("product.catalog.coalesced.lookups").functionCounter().count()).isEqualTo(10);
+        assertThat(registry.get("product.catalog.coalesced.batches").functionCounter().count()).isEqualTo(2);
+    }
+}
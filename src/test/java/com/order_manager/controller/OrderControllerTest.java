@@ -0,0 +1,149 @@
+package com.order_manager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order_manager.dto.OrderBatchInput;
+import com.order_manager.dto.OrderInput;
+import com.order_manager.dto.OrderLineInput;
+import com.order_manager.service.OrderService;
+import com.order_manager.service.OrderSummaryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest()
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("Unit tests for OrderController")
+class OrderControllerTest {
+
+    private static final Long PRODUCT_ID_1 = 1L;
+    private static final Long PRODUCT_ID_2 = 2L;
+    private static final Integer ORDER_QUANTITY = 1;
+
+    @MockitoBean
+    private OrderService orderService;
+    @MockitoBean
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    @DisplayName("""
+            GIVEN an order line with a huge quantity
+            WHEN creating a new order
+            THEN the request should be rejected with 400 before reaching the service
+            """)
+    void shouldRejectOversizedLineQuantity() throws Exception {
+        //GIVEN
+        var body = """
+                {"products": [{"id": %d, "quantity": 2000000000}], "quantity": %d}
+                """.formatted(PRODUCT_ID_1, ORDER_QUANTITY);
+
+        //WHEN
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+
+                //THEN
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$['products[0].quantity']").exists()
+                );
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN order lines that are each allowed but together exceed the unit limit
+            WHEN creating a new order
+            THEN the request should be rejected with 400 before reaching the service
+            """)
+    void shouldRejectOrderOverUnitLimit() throws Exception {
+        //GIVEN
+        var input = new OrderInput(List.of(
+                new OrderLineInput(PRODUCT_ID_1, OrderLineInput.MAX_QUANTITY),
+                new OrderLineInput(PRODUCT_ID_2, OrderLineInput.MAX_QUANTITY)), ORDER_QUANTITY);
+
+        //WHEN
+        mockMvc.perform(post("/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(input)))
+
+                //THEN
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.withinUnitLimit").exists()
+                );
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN a batch with more orders than allowed
+            WHEN creating orders in a batch
+            THEN the request should be rejected with 400 before reaching the service
+            """)
+    void shouldRejectOversizedBatch() throws Exception {
+        //GIVEN
+        var order = new OrderInput(List.of(new OrderLineInput(PRODUCT_ID_1)), ORDER_QUANTITY);
+        var input = new OrderBatchInput(Collections.nCopies(OrderBatchInput.MAX_ORDERS + 1, order));
+
+        //WHEN
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(input)))
+
+                //THEN
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.orders").exists()
+                );
+
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN a batch whose orders are each allowed but together exceed the unit limit
+            WHEN creating orders in a batch
+            THEN the request should be rejected with 400 before reaching the service
+            """)
+    void shouldRejectBatchOverUnitLimit() throws Exception {
+        //GIVEN
+        var order = new OrderInput(List.of(new OrderLineInput(PRODUCT_ID_1, OrderInput.MAX_UNITS)), ORDER_QUANTITY);
+        var orders = OrderBatchInput.MAX_UNITS / OrderInput.MAX_UNITS + 1;
+        var input = new OrderBatchInput(Collections.nCopies(orders, order));
+
+        //WHEN
+        mockMvc.perform(post("/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(input)))
+
+                //THEN
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.withinUnitLimit").exists()
+                );
+
+        verifyNoInteractions(orderService);
+    }
+}
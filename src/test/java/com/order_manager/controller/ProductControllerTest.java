@@ -134,6 +134,36 @@ class ProductControllerTest {
         verifyNoMoreInteractions(productService);
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN the existing products
+            WHEN fetching products by ids
+            THEN the requested products should be returned
+            """)
+    void shouldGetProductsByIds() throws Exception {
+        //GIVEN
+        var expectedProducts = prepareProducts();
+        var ids = List.of(PRODUCT_ID_1, PRODUCT_ID_2);
+
+        when(productService.getProducts(ids)).thenReturn(expectedProducts);
+
+        //WHEN
+        mockMvc.perform(get("/products")
+                        .param("ids", PRODUCT_ID_1 + "," + PRODUCT_ID_2)
+                        .contentType(MediaType.APPLICATION_JSON))
+
+                //THEN
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.length()").value(expectedProducts.size()),
+                        jsonPath("$[0].id").value(PRODUCT_ID_1),
+                        jsonPath("$[1].id").value(PRODUCT_ID_2)
+                );
+
+        verify(productService, times(1)).getProducts(ids);
+        verifyNoMoreInteractions(productService);
+    }
+
     @Test
     @DisplayName("""
             GIVEN the existing product
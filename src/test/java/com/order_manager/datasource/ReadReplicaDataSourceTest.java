@@ -0,0 +1,179 @@
+package com.order_manager.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for ReadReplicaDataSource")
+public class ReadReplicaDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private ReadYourWritesGuard readYourWritesGuard;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replica1Connection = mock(Connection.class);
+    private final Connection replica2Connection = mock(Connection.class);
+
+    private ReadReplicaDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        dataSource = new ReadReplicaDataSource(primary, replicas, readYourWritesGuard, MAX_LAG);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Two healthy replicas
+            WHEN Getting connections for reads
+            THEN The replicas should be used in turn
+            """)
+    void shouldRoundRobinHealthyReplicas() throws SQLException {
+        //GIVEN
+        stubLag(replica1, replica1Connection, 0);
+        stubLag(replica2, replica2Connection, 0);
+        dataSource.checkReplicas();
+
+        //WHEN
+        var first = dataSource.getConnection();
+        var second = dataSource.getConnection();
+        var third = dataSource.getConnection();
+
+        //THEN
+        assertThat(first).isSameAs(replica1Connection);
+        assertThat(second).isSameAs(replica2Connection);
+        assertThat(third).isSameAs(replica1Connection);
+        assertThat(dataSource.getReplicaReads()).isEqualTo(3);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN One replica lagging beyond the max lag
+            WHEN Getting connections for reads
+            THEN Only the other replica should be used
+            """)
+    void shouldSkipLaggingReplica() throws SQLException {
+        //GIVEN
+        stubLag(replica1, replica1Connection, MAX_LAG.toMillis() + 1);
+        stubLag(replica2, replica2Connection, 0);
+        dataSource.checkReplicas();
+
+        //WHEN
+        var first = dataSource.getConnection();
+        var second = dataSource.getConnection();
+
+        //THEN
+        assertThat(first).isSameAs(replica2Connection);
+        assertThat(second).isSameAs(replica2Connection);
+        assertThat(dataSource.getReplicaStates())
+                .extracting(ReadReplicaDataSource.ReplicaState::healthy)
+                .containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Replicas that have not passed a health check
+            WHEN Getting a connection for a read
+            THEN The primary should serve it
+            """)
+    void shouldReadFromPrimaryWithoutHealthyReplica() throws SQLException {
+        //GIVEN
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        //WHEN
+        var connection = dataSource.getConnection();
+
+        //THEN
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(dataSource.getPrimaryReads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A healthy replica and a user who just wrote
+            WHEN Getting a connection for their read
+            THEN The primary should serve it
+            """)
+    void shouldReadFromPrimaryAfterOwnWrite() throws SQLException {
+        //GIVEN
+        stubLag(replica1, replica1Connection, 0);
+        stubLag(replica2, replica2Connection, 0);
+        dataSource.checkReplicas();
+        when(readYourWritesGuard.mustReadFromPrimary()).thenReturn(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        //WHEN
+        var connection = dataSource.getConnection();
+
+        //THEN
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A healthy replica that refuses connections
+            WHEN Getting a connection for a read
+            THEN The primary should serve it and the replica should leave the rotation
+            """)
+    void shouldFallBackToPrimaryWhenReplicaFails() throws SQLException {
+        //GIVEN
+        stubLag(replica1, replica1Connection, 0);
+        stubLag(replica2, replica2Connection, MAX_LAG.toMillis() + 1);
+        dataSource.checkReplicas();
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        //WHEN
+        var connection = dataSource.getConnection();
+
+        //THEN
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(dataSource.getReplicaStates())
+                .extracting(ReadReplicaDataSource.ReplicaState::healthy)
+                .containsExactly(false, false);
+    }
+
+    private static void stubLag(DataSource replica, Connection connection, long lagMillis) throws SQLException {
+        var statement = mock(Statement.class);
+        var resultSet = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lagMillis);
+    }
+}
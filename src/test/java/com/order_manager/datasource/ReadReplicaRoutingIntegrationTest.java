@@ -0,0 +1,75 @@
+package com.order_manager.datasource;
+
+import com.order_manager.BaseTest;
+import com.order_manager.service.OrderCacheService;
+import com.order_manager.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "read-replicas.enabled=true",
+        "read-replicas.urls=jdbc:tc:postgresql:17.4:///test_db"
+})
+@DisplayName("Integration tests for read-replica routing")
+public class ReadReplicaRoutingIntegrationTest extends BaseTest {
+
+    private static final String USER_NAME = "Name_1";
+    private static final Long ORDER_ID = 1L;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderCacheService orderCacheService;
+
+    @Autowired
+    private ReadReplicaDataSource readReplicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        readReplicaDataSource.checkReplicas();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A healthy replica
+            WHEN Running a read-only service method
+            THEN Its connection should come from the replica
+            """)
+    void shouldRouteReadOnlyTransactionToReplica() {
+        //GIVEN
+        var replicaReads = readReplicaDataSource.getReplicaReads();
+
+        //WHEN
+        var page = orderService.getOrdersByUsername(USER_NAME, null, null);
+
+        //THEN
+        assertThat(page.orders()).isNotEmpty();
+        assertThat(readReplicaDataSource.getReplicaReads()).isEqualTo(replicaReads + 1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A healthy replica and an order missing from the cache
+            WHEN Getting the order
+            THEN It should be read from the replica and not cached
+            """)
+    void shouldNotCacheOrderReadFromReplica() {
+        //GIVEN
+        var replicaReads = readReplicaDataSource.getReplicaReads();
+
+        //WHEN
+        var order = orderService.getOrder(ORDER_ID);
+
+        //THEN
+        assertThat(order.id()).isEqualTo(ORDER_ID);
+        assertThat(readReplicaDataSource.getReplicaReads()).isEqualTo(replicaReads + 1);
+        assertThat(orderCacheService.getCachedOrder(ORDER_ID)).isEmpty();
+        assertThat(ReadReplicaDataSource.isReplicaRead()).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package com.order_manager.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for ReadYourWritesGuard")
+public class ReadYourWritesGuardTest {
+
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(100, Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A user whose transaction wrote a row
+            WHEN The transaction commits
+            THEN Their reads should go to the primary, other users' to the replicas
+            """)
+    void shouldPinWriterToPrimary() {
+        //GIVEN
+        authenticate("Name_1");
+        guard.markWrite();
+        guard.markWrite();
+
+        //WHEN
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        var writerOnPrimary = guard.mustReadFromPrimary();
+        authenticate("Name_2");
+        var otherOnPrimary = guard.mustReadFromPrimary();
+
+        //THEN
+        assertThat(synchronizations).hasSize(1);
+        assertThat(writerOnPrimary).isTrue();
+        assertThat(otherOnPrimary).isFalse();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A user whose transaction wrote a row
+            WHEN The transaction rolls back
+            THEN Their reads should go to the replicas
+            """)
+    void shouldNotPinAfterRollback() {
+        //GIVEN
+        authenticate("Name_1");
+        guard.markWrite();
+
+        //WHEN
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        var onPrimary = guard.mustReadFromPrimary();
+
+        //THEN
+        assertThat(onPrimary).isFalse();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A user whose read-write transaction only read
+            WHEN The transaction commits
+            THEN Their reads should go to the replicas
+            """)
+    void shouldNotPinReader() {
+        //GIVEN
+        authenticate("Name_1");
+
+        //WHEN
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        var onPrimary = guard.mustReadFromPrimary();
+
+        //THEN
+        assertThat(onPrimary).isFalse();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
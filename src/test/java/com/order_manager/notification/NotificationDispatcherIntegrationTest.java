@@ -0,0 +1,104 @@
+package com.order_manager.notification;
+
+import com.order_manager.BaseTest;
+import com.order_manager.entity.DbOrderEvent;
+import com.order_manager.entity.OrderStatus;
+import com.order_manager.repository.OrderEventRepository;
+import com.order_manager.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for NotificationDispatcher")
+public class NotificationDispatcherIntegrationTest extends BaseTest {
+
+    private static final Long ORDER_ID = 1L;
+    private static final OrderStatus ORDER_STATUS_NEW = OrderStatus.COMPLETED;
+    private static final String RECIPIENT = "recipient@mail.com";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderEventRepository orderEventRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("""
+            GIVEN Committed order status change
+            WHEN Dispatching the outbox
+            THEN Event should be written with the change and deleted once sent
+            """)
+    void shouldWriteAndDrainOutboxEvent() {
+        //GIVEN
+        orderService.updateOrderStatus(ORDER_ID, ORDER_STATUS_NEW);
+        assertThat(orderEventRepository.findAll())
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getOrderId()).isEqualTo(ORDER_ID);
+                    assertThat(event.getStatus()).isEqualTo(ORDER_STATUS_NEW);
+                });
+
+        //WHEN
+        notificationDispatcher.dispatch();
+
+        //THEN
+        assertThat(orderEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Order status change in a transaction that rolls back
+            WHEN Transaction completes
+            THEN No outbox event should be left behind
+            """)
+    void shouldNotWriteEvent_whenTransactionRollsBack() {
+        //GIVEN
+        //WHEN
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.updateOrderStatus(ORDER_ID, ORDER_STATUS_NEW);
+            status.setRollbackOnly();
+        });
+
+        //THEN
+        assertThat(orderEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Two outbox events
+            WHEN Two relays lock a batch concurrently
+            THEN Each relay should get a different event
+            """)
+    void shouldSkipRowsLockedByAnotherRelay() {
+        //GIVEN
+        var now = Instant.now();
+        orderEventRepository.saveAll(List.of(
+                new DbOrderEvent(ORDER_ID, RECIPIENT, ORDER_STATUS_NEW, now),
+                new DbOrderEvent(ORDER_ID, RECIPIENT, OrderStatus.PENDING, now)));
+
+        //WHEN
+        var locked = transactionTemplate.execute(_ -> {
+            var first = orderEventRepository.lockNextBatch(Instant.now(), 1);
+            var second = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(_ ->
+                    orderEventRepository.lockNextBatch(Instant.now(), 1))).join();
+            return List.of(first, second);
+        });
+
+        //THEN
+        assertThat(locked).allSatisfy(batch -> assertThat(batch).hasSize(1));
+        assertThat(locked.get(0).get(0).getId()).isNotEqualTo(locked.get(1).get(0).getId());
+    }
+}
@@ -0,0 +1,162 @@
+package com.order_manager.notification;
+
+import com.order_manager.entity.DbOrderEvent;
+import com.order_manager.repository.OrderEventRepository;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.order_manager.entity.OrderStatus.COMPLETED;
+import static com.order_manager.entity.OrderStatus.PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for NotificationDispatcher")
+public class NotificationDispatcherTest {
+
+    private static final String ALICE = "alice@mail.com";
+    private static final String BOB = "bob@mail.com";
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration BACKOFF = Duration.ofSeconds(1);
+
+    @Mock
+    private OrderEventRepository orderEventRepository;
+
+    private final RecordingTransport transport = new RecordingTransport();
+
+    @Test
+    @DisplayName("""
+            GIVEN Due outbox events for two recipients
+            WHEN Dispatching
+            THEN One batch per recipient should be sent and the events deleted
+            """)
+    void shouldSendBatchPerRecipient() {
+        //GIVEN
+        var alice1 = event(1L, ALICE, 0);
+        var bob = event(2L, BOB, 0);
+        var alice2 = event(3L, ALICE, 0);
+        when(orderEventRepository.lockNextBatch(eq(NOW), anyInt())).thenReturn(List.of(alice1, bob, alice2));
+
+        //WHEN
+        dispatcher(3).dispatch();
+
+        //THEN
+        assertThat(transport.batches).hasSize(2);
+        assertThat(transport.batches.get(0)).extracting(OrderStatusNotification::orderId).containsExactly(1L, 3L);
+        assertThat(transport.batches.get(1)).extracting(OrderStatusNotification::orderId).containsExactly(2L);
+        verify(orderEventRepository).deleteAllInBatch(List.of(alice1, alice2));
+        verify(orderEventRepository).deleteAllInBatch(List.of(bob));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Transport failing
+            WHEN Dispatching
+            THEN Events should be kept and rescheduled with exponential backoff
+            """)
+    void shouldRescheduleEvents_whenTransportFails() {
+        //GIVEN
+        transport.failing = true;
+        var first = event(1L, ALICE, 0);
+        var second = event(2L, ALICE, 2);
+        when(orderEventRepository.lockNextBatch(eq(NOW), anyInt())).thenReturn(List.of(first, second));
+        var dispatcher = dispatcher(5);
+
+        //WHEN
+        dispatcher.dispatch();
+
+        //THEN
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getAvailableAt()).isEqualTo(NOW.plus(BACKOFF));
+        assertThat(second.getAttempts()).isEqualTo(3);
+        assertThat(second.getAvailableAt()).isEqualTo(NOW.plus(BACKOFF.multipliedBy(4)));
+        assertThat(dispatcher.getStats().retried()).isEqualTo(2);
+        verify(orderEventRepository, never()).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Transport failing and an event on its last attempt
+            WHEN Dispatching
+            THEN Event should be abandoned and deleted
+            """)
+    void shouldAbandonEvent_whenAttemptsExhausted() {
+        //GIVEN
+        transport.failing = true;
+        var event = event(1L, ALICE, 2);
+        when(orderEventRepository.lockNextBatch(eq(NOW), anyInt())).thenReturn(List.of(event));
+        var dispatcher = dispatcher(3);
+
+        //WHEN
+        dispatcher.dispatch();
+
+        //THEN
+        assertThat(dispatcher.getStats().abandoned()).isEqualTo(1);
+        verify(orderEventRepository).deleteAllInBatch(List.of(event));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Transport succeeding and the outbox delete failing
+            WHEN Dispatching
+            THEN The failure should propagate instead of rescheduling the sent events
+            """)
+    void shouldPropagateDeleteFailure() {
+        //GIVEN
+        var event = event(1L, ALICE, 0);
+        when(orderEventRepository.lockNextBatch(eq(NOW), anyInt())).thenReturn(List.of(event));
+        var failure = new IllegalStateException("Delete failed");
+        doThrow(failure).when(orderEventRepository).deleteAllInBatch(List.of(event));
+        var dispatcher = dispatcher(3);
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(dispatcher::dispatch).isSameAs(failure);
+        assertThat(transport.batches).hasSize(1);
+        assertThat(event.getAttempts()).isZero();
+        assertThat(dispatcher.getStats().retried()).isZero();
+    }
+
+    private NotificationDispatcher dispatcher(int maxAttempts) {
+        return new NotificationDispatcher(transport, orderEventRepository, Tracer.NOOP, 100, maxAttempts,
+                BACKOFF, Duration.ofMinutes(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static DbOrderEvent event(Long orderId, String recipient, int attempts) {
+        var event = new DbOrderEvent(orderId, recipient, orderId % 2 == 0 ? COMPLETED : PENDING, NOW);
+        event.setId(orderId);
+        event.setAttempts(attempts);
+        return event;
+    }
+
+    private static class RecordingTransport implements NotificationTransport {
+
+        private final List<List<OrderStatusNotification>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(String recipient, List<OrderStatusNotification> notifications) {
+            if (failing) {
+                throw new IllegalStateException("Transport unavailable");
+            }
+            batches.add(List.copyOf(notifications));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.order_manager.repository;
+
+import com.order_manager.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Explains the SQL Hibernate generates for the repository queries, with the planner's default settings,
+ * against tables filled to a size where a sequential scan would no longer be chosen by accident.
+ */
+@DisplayName("Integration tests for order table indexes")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.order_manager.repository.RecordingStatementInspector")
+public class OrderIndexIntegrationTest extends BaseTest {
+
+    private static final int USERS = 500;
+    private static final int PRODUCTS = 500;
+    private static final int ORDERS = 50_000;
+    private static final int LINES_PER_ORDER = 2;
+    // One order in a hundred stays pending, as in production where orders complete
+    private static final int PENDING_EVERY = 100;
+
+    private static final String USER_NAME = "Bulk_user_100";
+    private static final long FIRST_BULK_ID = 3;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void fillTables() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name, password, role, email)
+                SELECT i, 'Bulk_user_' || i, 'Password', 'USER', 'bulk_' || i || '@example.com'
+                FROM generate_series(?, ?) i
+                """, FIRST_BULK_ID, FIRST_BULK_ID + USERS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO products (id, name, description, price)
+                SELECT i, 'Bulk_product_' || i, 'Product Description', 1
+                FROM generate_series(?, ?) i
+                """, FIRST_BULK_ID, FIRST_BULK_ID + PRODUCTS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO orders (id, quantity, user_id, status, total_value)
+                SELECT i, 1, ? + i % ?, CASE WHEN i % ? = 0 THEN 'PENDING' ELSE 'COMPLETED' END, ?
+                FROM generate_series(?, ?) i
+                """, FIRST_BULK_ID, USERS, PENDING_EVERY, LINES_PER_ORDER, FIRST_BULK_ID, FIRST_BULK_ID + ORDERS - 1);
+        jdbcTemplate.update("""
+                INSERT INTO order_products (order_id, product_id, line_no, quantity)
+                SELECT o, ? + (o * 7 + l) % ?, l, 1
+                FROM generate_series(?, ?) o, generate_series(0, ?) l
+                """, FIRST_BULK_ID, PRODUCTS, FIRST_BULK_ID, FIRST_BULK_ID + ORDERS - 1, LINES_PER_ORDER - 1);
+        jdbcTemplate.execute("ANALYZE users, products, orders, order_products");
+    }
+
+    @Test
+    @DisplayName("""
+            WHEN Explaining the SQL of findIdsByUserName
+            THEN The plan should use the (user_id, id) index
+            """)
+    void shouldUseUserIdIndex_whenPagingOrderIds() {
+        //WHEN
+        var sql = generatedSql(() -> orderRepository.findIdsByUserName(USER_NAME, 0L, Limit.of(PAGE_SIZE + 1)));
+        var plan = explain(sql, USER_NAME, 0L, PAGE_SIZE + 1);
+
+        //THEN
+        assertThat(plan).contains("idx_orders_user_id_id");
+    }
+
+    @Test
+    @DisplayName("""
+            WHEN Explaining the SQL of findLinesByOrderIdIn
+            THEN The plan should use the order_products primary key
+            """)
+    void shouldUsePrimaryKey_whenLoadingProductLines() {
+        //GIVEN
+        var orderIds = List.of(FIRST_BULK_ID + 10, FIRST_BULK_ID + 20);
+
+        //WHEN
+        var sql = generatedSql(() -> orderRepository.findLinesByOrderIdIn(orderIds));
+        var plan = explain(sql, orderIds.toArray());
+
+        //THEN
+        assertThat(plan).contains("pk_order_products");
+    }
+
+    @Test
+    @DisplayName("""
+            WHEN Explaining the lookup done by the cascade from products
+            THEN The plan should use the product_id index
+            """)
+    void shouldUseProductIdIndex_whenCascadingFromProducts() {
+        //WHEN
+        // Issued by the ON DELETE CASCADE trigger, not by Hibernate; EXPLAIN does not run it
+        var plan = explain("DELETE FROM ONLY order_products WHERE product_id = ?", FIRST_BULK_ID);
+
+        //THEN
+        assertThat(plan).contains("idx_order_products_product_id");
+    }
+
+    @Test
+    @DisplayName("""
+            WHEN Explaining the lookup of pending orders
+            THEN The plan should use the partial status index
+            """)
+    void shouldUsePartialIndex_whenFindingPendingOrders() {
+        //WHEN
+        var plan = explain("SELECT o.id FROM orders o WHERE o.status = 'PENDING'");
+
+        //THEN
+        assertThat(plan).contains("idx_orders_status_pending");
+    }
+
+    private static String generatedSql(Runnable repositoryCall) {
+        RecordingStatementInspector.clear();
+        repositoryCall.run();
+        return RecordingStatementInspector.statements().getLast();
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+}
@@ -0,0 +1,107 @@
+package com.order_manager.resilience;
+
+import com.order_manager.cache.MutableClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for CircuitBreaker")
+public class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(4, 4, 50, OPEN_DURATION, 2, clock);
+
+    @Test
+    @DisplayName("""
+            GIVEN Failure rate below the threshold
+            WHEN Recording outcomes
+            THEN Breaker should stay closed
+            """)
+    void shouldStayClosed_whenFailureRateBelowThreshold() {
+        //WHEN
+        record(true, false, false, false);
+
+        //THEN
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Failure rate reaching the threshold
+            WHEN Acquiring a permission
+            THEN Breaker should be open and reject the call
+            """)
+    void shouldOpen_whenFailureRateReachesThreshold() {
+        //GIVEN
+        record(false, true, false, true);
+
+        //WHEN
+        var permitted = circuitBreaker.tryAcquirePermission();
+
+        //THEN
+        assertThat(permitted).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Open breaker after the open duration
+            WHEN Probes succeed
+            THEN Breaker should let only the probes through and close
+            """)
+    void shouldCloseAfterSuccessfulProbes() {
+        //GIVEN
+        record(true, true, true, true);
+        clock.advance(OPEN_DURATION);
+
+        //WHEN
+        var firstProbe = circuitBreaker.tryAcquirePermission();
+        var secondProbe = circuitBreaker.tryAcquirePermission();
+        var extraCall = circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        //THEN
+        assertThat(firstProbe).isTrue();
+        assertThat(secondProbe).isTrue();
+        assertThat(extraCall).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Half-open breaker
+            WHEN A probe fails
+            THEN Breaker should open again
+            """)
+    void shouldReopen_whenProbeFails() {
+        //GIVEN
+        record(true, true, true, true);
+        clock.advance(OPEN_DURATION);
+        circuitBreaker.tryAcquirePermission();
+
+        //WHEN
+        circuitBreaker.onFailure();
+
+        //THEN
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void record(boolean... failures) {
+        for (var failure : failures) {
+            circuitBreaker.tryAcquirePermission();
+            if (failure) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.order_manager.resilience;
+
+import com.order_manager.exception.ExternalServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit tests for ResilientCaller")
+public class ResilientCallerTest {
+
+    private static final int MAX_CONCURRENT_CALLS = 2;
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+    private static final Duration BULKHEAD_MAX_WAIT = Duration.ofMillis(500);
+
+    private final CountDownLatch upstreamReleased = new CountDownLatch(1);
+    private final ResilientCaller caller = new ResilientCaller("upstream",
+            new CircuitBreaker(10, 10, 50, Duration.ofSeconds(30), 2, Clock.systemUTC()),
+            MAX_CONCURRENT_CALLS, BULKHEAD_MAX_WAIT, null);
+
+    @AfterEach
+    void tearDown() {
+        upstreamReleased.countDown();
+        caller.close();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN A slow upstream and calls timing out
+            WHEN More calls arrive than the bulkhead allows
+            THEN Abandoned attempts should keep their permits until they finish
+            """)
+    void shouldHoldPermitsUntilTimedOutAttemptsFinish() {
+        //GIVEN
+        for (int i = 0; i < MAX_CONCURRENT_CALLS; i++) {
+            assertThatThrownBy(() -> caller.call("get", TIMEOUT, slowUpstream()))
+                    .isInstanceOf(ExternalServiceException.class)
+                    .hasMessageContaining("timed out");
+        }
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(() -> caller.call("get", TIMEOUT, slowUpstream()))
+                .isInstanceOf(ExternalServiceException.class)
+                .hasMessageContaining("Too many concurrent calls");
+        assertThat(caller.getStats().rejectedByBulkhead()).isEqualTo(1);
+
+        upstreamReleased.countDown();
+        assertThat(caller.call("get", TIMEOUT, () -> "ok")).isEqualTo("ok");
+    }
+
+    private Supplier<String> slowUpstream() {
+        return () -> {
+            try {
+                upstreamReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        };
+    }
+}
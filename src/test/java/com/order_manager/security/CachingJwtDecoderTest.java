@@ -0,0 +1,101 @@
+package com.order_manager.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for CachingJwtDecoder")
+public class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(15);
+
+    @Mock
+    private JwtDecoder delegate;
+
+    @Test
+    @DisplayName("""
+            GIVEN Valid token
+            WHEN Decoding the token twice
+            THEN The token should be verified only once
+            """)
+    void shouldVerifyTokenOnce() {
+        //GIVEN
+        var decoder = new CachingJwtDecoder(delegate, 10, CACHE_TTL);
+        var jwt = buildJwt(Instant.now().plusSeconds(60));
+
+        when(delegate.decode(TOKEN)).thenReturn(jwt);
+
+        //WHEN
+        var first = decoder.decode(TOKEN);
+        var second = decoder.decode(TOKEN);
+
+        //THEN
+        assertThat(first).isSameAs(jwt);
+        assertThat(second).isSameAs(jwt);
+        assertThat(decoder.getStats().hits()).isEqualTo(1);
+
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Token that has already expired
+            WHEN Decoding the token twice
+            THEN The token should be verified every time
+            """)
+    void shouldNotServeToken_afterExpiration() {
+        //GIVEN
+        var decoder = new CachingJwtDecoder(delegate, 10, CACHE_TTL);
+
+        when(delegate.decode(TOKEN)).thenReturn(buildJwt(Instant.now().minusSeconds(1)));
+
+        //WHEN
+        decoder.decode(TOKEN);
+        decoder.decode(TOKEN);
+
+        //THEN
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Invalid token
+            WHEN Decoding the token
+            THEN The exception should be propagated and nothing cached
+            """)
+    void shouldPropagateException_whenTokenInvalid() {
+        //GIVEN
+        var decoder = new CachingJwtDecoder(delegate, 10, CACHE_TTL);
+
+        when(delegate.decode(TOKEN)).thenThrow(new BadJwtException("Invalid signature"));
+
+        //THEN
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+        assertThat(decoder.getStats().size()).isZero();
+    }
+
+    private Jwt buildJwt(Instant expiresAt) {
+        return Jwt.withTokenValue(TOKEN)
+                .header("alg", "HS256")
+                .subject("Name")
+                .issuedAt(expiresAt.minusSeconds(120))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.order_manager.security;
+
+import com.order_manager.service.CustomUserDetailsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for JwtPrincipalResolver")
+public class JwtPrincipalResolverTest {
+
+    private static final String USER_NAME = "Name";
+    private static final String USER_PASSWORD = "Password";
+    private static final String USER_AUTHORITY = "ROLE_USER";
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Test
+    @DisplayName("""
+            GIVEN Token of a user
+            WHEN Resolving the principal twice
+            THEN The user should be loaded once and then served from the cache
+            """)
+    void shouldCachePrincipal() {
+        //GIVEN
+        var resolver = new JwtPrincipalResolver(userDetailsService, false, 10, CACHE_TTL);
+        var userDetails = prepareUserDetails();
+
+        when(userDetailsService.loadUserByUsername(USER_NAME)).thenReturn(userDetails);
+
+        //WHEN
+        var first = resolver.resolve(buildJwt());
+        var second = resolver.resolve(buildJwt());
+
+        //THEN
+        assertThat(first).isSameAs(userDetails);
+        assertThat(second).isSameAs(userDetails);
+        assertThat(resolver.getCacheStats().hits()).isEqualTo(1);
+        assertThat(resolver.getCacheStats().misses()).isEqualTo(1);
+
+        verify(userDetailsService, times(1)).loadUserByUsername(USER_NAME);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached principal
+            WHEN The principal is evicted
+            THEN The user should be loaded again
+            """)
+    void shouldReloadPrincipal_whenEvicted() {
+        //GIVEN
+        var resolver = new JwtPrincipalResolver(userDetailsService, false, 10, CACHE_TTL);
+
+        when(userDetailsService.loadUserByUsername(USER_NAME)).thenReturn(prepareUserDetails());
+        resolver.resolve(buildJwt());
+
+        //WHEN
+        resolver.evict(USER_NAME);
+        resolver.resolve(buildJwt());
+
+        //THEN
+        verify(userDetailsService, times(2)).loadUserByUsername(USER_NAME);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Token with a roles claim that is trusted
+            WHEN Resolving the principal
+            THEN The principal should be built from the token without loading the user
+            """)
+    void shouldResolvePrincipalFromClaims_whenTrusted() {
+        //GIVEN
+        var resolver = new JwtPrincipalResolver(userDetailsService, true, 10, CACHE_TTL);
+
+        //WHEN
+        var userDetails = resolver.resolve(buildJwt());
+
+        //THEN
+        assertThat(userDetails.getUsername()).isEqualTo(USER_NAME);
+        assertThat(AuthorityUtils.authorityListToSet(userDetails.getAuthorities())).containsExactly(USER_AUTHORITY);
+        assertThat(resolver.getClaimResolutions()).isEqualTo(1);
+
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private UserDetails prepareUserDetails() {
+        return User.withUsername(USER_NAME)
+                .password(USER_PASSWORD)
+                .authorities(USER_AUTHORITY)
+                .build();
+    }
+
+    private Jwt buildJwt() {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(USER_NAME)
+                .claim(JwtTokenProvider.ROLES_CLAIM, List.of(USER_AUTHORITY))
+                .build();
+    }
+}
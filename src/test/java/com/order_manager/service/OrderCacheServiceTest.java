@@ -0,0 +1,103 @@
+package com.order_manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.order_manager.cache.InMemorySharedCache;
+import com.order_manager.cache.LocalCache;
+import com.order_manager.cache.SharedCache;
+import com.order_manager.dto.OrderDto;
+import com.order_manager.entity.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for OrderCacheService")
+public class OrderCacheServiceTest {
+
+    private static final Long ORDER_ID = 1L;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private LocalCache<Long, OrderDto> localCache;
+    private SharedCache sharedCache;
+    private OrderCacheService orderCacheService;
+
+    @BeforeEach
+    void setUp() {
+        localCache = new LocalCache<>(10, TTL);
+        sharedCache = new InMemorySharedCache();
+
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("sharedCache", sharedCache);
+        orderCacheService = new OrderCacheService(localCache, beanFactory.getBeanProvider(SharedCache.class),
+                new ObjectMapper(), TTL);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Order cached in both tiers
+            WHEN Fetching the order
+            THEN Order should be returned from the local tier
+            """)
+    void shouldGetOrderFromLocalTier() {
+        //GIVEN
+        var order = buildOrder();
+        orderCacheService.cacheOrder(order);
+
+        //WHEN
+        var cached = orderCacheService.getCachedOrder(ORDER_ID);
+
+        //THEN
+        assertThat(cached).contains(order);
+        assertThat(orderCacheService.getLocalStats().hits()).isEqualTo(1);
+        assertThat(orderCacheService.getSharedStats().hits()).isZero();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Order cached only in the shared tier
+            WHEN Fetching the order
+            THEN Order should be returned and promoted to the local tier
+            """)
+    void shouldGetOrderFromSharedTier() {
+        //GIVEN
+        var order = buildOrder();
+        orderCacheService.cacheOrder(order);
+        orderCacheService.clearLocal();
+
+        //WHEN
+        var cached = orderCacheService.getCachedOrder(ORDER_ID);
+
+        //THEN
+        assertThat(cached).contains(order);
+        assertThat(orderCacheService.getSharedStats().hits()).isEqualTo(1);
+        assertThat(localCache.get(ORDER_ID)).contains(order);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached order
+            WHEN Evicting the order
+            THEN Order should be removed from both tiers
+            """)
+    void shouldEvictOrderFromBothTiers() {
+        //GIVEN
+        orderCacheService.cacheOrder(buildOrder());
+
+        //WHEN
+        orderCacheService.evictOrder(ORDER_ID);
+
+        //THEN
+        assertThat(orderCacheService.getCachedOrder(ORDER_ID)).isEmpty();
+        assertThat(sharedCache.get("order:" + ORDER_ID)).isEmpty();
+        assertThat(orderCacheService.getSharedStats().misses()).isEqualTo(1);
+    }
+
+    private OrderDto buildOrder() {
+        return new OrderDto(ORDER_ID, OrderStatus.PENDING, List.of());
+    }
+}
@@ -3,15 +3,21 @@ package com.order_manager.service;
 import com.order_manager.BaseTest;
 import com.order_manager.dto.OrderDto;
 import com.order_manager.dto.OrderInput;
-import com.order_manager.entity.DbProduct;
+import com.order_manager.dto.OrderLineDto;
+import com.order_manager.dto.OrderLineInput;
 import com.order_manager.entity.OrderStatus;
 import com.order_manager.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,9 +30,9 @@ public class OrderServiceIntegrationTest extends BaseTest {
     private static final Long PRODUCT_ID_2 = 2L;
     private static final String PRODUCT_NAME_1 = "Product_1";
     private static final String PRODUCT_NAME_2 = "Product_2";
-    private static final String PRODUCT_DESCRIPTION = "Product Description";
     private static final BigDecimal PRODUCT_PRICE_1 = BigDecimal.ONE;
     private static final BigDecimal PRODUCT_PRICE_2 = BigDecimal.TWO;
+    private static final Long PRODUCT_QUANTITY = 1L;
 
     private static final Long ORDER_ID_1 = 1L;
     private static final Long ORDER_ID_2 = 2L;
@@ -34,12 +40,20 @@ public class OrderServiceIntegrationTest extends BaseTest {
     private static final OrderStatus ORDER_STATUS = OrderStatus.PENDING;
     private static final OrderStatus ORDER_STATUS_NEW = OrderStatus.COMPLETED;
 
+    private static final int LARGE_LINE_QUANTITY = 200;
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final int SMALL_ORDER_BATCH = 5;
+    private static final int LARGE_ORDER_BATCH = 200;
+
     @Autowired
     private OrderRepository orderRepository;
 
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("""
             GIVEN Input for creating a new order
@@ -48,8 +62,8 @@ public class OrderServiceIntegrationTest extends BaseTest {
             """)
     public void shouldCreateOrder() {
         //GIVEN
-        var products = prepareProducts();
-        var input = new OrderInput(products, ORDER_QUANTITY);
+        var products = prepareLines();
+        var input = new OrderInput(prepareLineInputs(), ORDER_QUANTITY);
 
         //WHEN
         var createdOrder = orderService.createOrder(USER_NAME, input);
@@ -76,9 +90,12 @@ public class OrderServiceIntegrationTest extends BaseTest {
         var expectedOrders = buildDTOs();
 
         //WHEN
-        var actualOrders = orderService.getOrdersByUsername(USER_NAME);
+        var actualPage = orderService.getOrdersByUsername(USER_NAME, null, null);
 
         //THEN
+        assertThat(actualPage.nextCursor()).isNull();
+
+        var actualOrders = actualPage.orders();
         assertThat(actualOrders).isNotNull()
                 .hasSize(expectedOrders.size())
                 .containsExactlyInAnyOrderElementsOf(expectedOrders);
@@ -92,6 +109,86 @@ public class OrderServiceIntegrationTest extends BaseTest {
                 });
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN List of all user orders in the database
+            WHEN Fetching the orders page by page
+            THEN Every order should be returned exactly once in id order
+            """)
+    public void shouldGetOrdersByUsernamePageByPage() {
+        //WHEN
+        var firstPage = orderService.getOrdersByUsername(USER_NAME, null, 1);
+        var secondPage = orderService.getOrdersByUsername(USER_NAME, firstPage.nextCursor(), 1);
+
+        //THEN
+        assertThat(firstPage.orders()).extracting(OrderDto::id).containsExactly(ORDER_ID_1);
+        assertThat(firstPage.nextCursor()).isEqualTo(ORDER_ID_1);
+        assertThat(secondPage.orders()).extracting(OrderDto::id).containsExactly(ORDER_ID_2);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN List of all user orders in the database
+            WHEN Streaming all user orders
+            THEN All user orders from the database should be streamed
+            """)
+    public void shouldStreamOrdersByUsername() {
+        //GIVEN
+        var actualOrders = new ArrayList<OrderDto>();
+
+        //WHEN
+        orderService.streamOrdersByUsername(USER_NAME, actualOrders::add);
+
+        //THEN
+        assertThat(actualOrders).containsExactlyElementsOf(buildDTOs());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Orders of a user with several products each
+            WHEN Fetching a page of orders of different length
+            THEN The number of SQL statements should not depend on the number of orders
+            """)
+    public void shouldGetOrdersPageWithConstantStatementCount() {
+        //GIVEN
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        orderService.getOrdersByUsername(USER_NAME, null, null);
+        var statementsForTwoOrders = statistics.getPrepareStatementCount();
+
+        IntStream.range(0, 20).forEach(_ -> orderService.createOrder(USER_NAME, new OrderInput(prepareLineInputs(), ORDER_QUANTITY)));
+
+        //WHEN
+        statistics.clear();
+        var actualPage = orderService.getOrdersByUsername(USER_NAME, null, null);
+
+        //THEN
+        assertThat(actualPage.orders()).hasSize(22)
+                .allSatisfy(order -> assertThat(order.products()).hasSize(prepareLines().size()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForTwoOrders);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Existed order
+            WHEN Fetching the order
+            THEN Order and its product lines should be loaded with a single SQL statement
+            """)
+    public void shouldGetOrderWithSingleStatement() {
+        //GIVEN
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //WHEN
+        var actualOrder = orderService.getOrder(ORDER_ID_1);
+
+        //THEN
+        assertThat(actualOrder.products()).hasSize(prepareLines().size());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("""
             GIVEN Existed order and a new status for updating
@@ -100,7 +197,7 @@ public class OrderServiceIntegrationTest extends BaseTest {
             """)
     void shouldUpdateOrderStatus() {
         // GIVEN
-        var expectedOrder = buildDTO(ORDER_ID_1, ORDER_STATUS_NEW, prepareProducts());
+        var expectedOrder = buildDTO(ORDER_ID_1, ORDER_STATUS_NEW, prepareLines());
 
         // WHEN
         var updatedUser = orderService.updateOrderStatus(expectedOrder.id(), ORDER_STATUS_NEW);
@@ -117,6 +214,62 @@ public class OrderServiceIntegrationTest extends BaseTest {
         assertThat(orderRepository.findById(expectedOrder.id())).isPresent();
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN Input with a product line of a large quantity
+            WHEN Creating orders
+            THEN The line should take as many statements as a single unit and ids should come from the pooled block
+            """)
+    public void shouldStoreLineQuantityInOneRow() {
+        //GIVEN
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        var smallOrder = orderService.createOrder(USER_NAME, new OrderInput(List.of(new OrderLineInput(PRODUCT_ID_1)), ORDER_QUANTITY));
+        var statementsForOneLine = statistics.getPrepareStatementCount();
+
+        //WHEN
+        statistics.clear();
+        var largeOrder = orderService.createOrder(USER_NAME,
+                new OrderInput(List.of(new OrderLineInput(PRODUCT_ID_1, LARGE_LINE_QUANTITY)), ORDER_QUANTITY));
+
+        //THEN
+        assertThat(largeOrder.products()).singleElement()
+                .satisfies(line -> assertThat(line.quantity()).isEqualTo(LARGE_LINE_QUANTITY));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(statementsForOneLine);
+        assertThat(largeOrder.id()).isEqualTo(smallOrder.id() + 1);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Batches of orders of different size
+            WHEN Creating them through the batch API
+            THEN All orders should be saved with statements growing only per JDBC batch
+            """)
+    public void shouldCreateOrdersInBatch() {
+        //GIVEN
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var input = new OrderInput(prepareLineInputs(), ORDER_QUANTITY);
+
+        statistics.clear();
+        orderService.createOrders(USER_NAME, Collections.nCopies(SMALL_ORDER_BATCH, input));
+        var statementsForSmallBatch = statistics.getPrepareStatementCount();
+
+        //WHEN
+        statistics.clear();
+        var result = orderService.createOrders(USER_NAME, Collections.nCopies(LARGE_ORDER_BATCH, input));
+
+        //THEN
+        assertThat(result.created()).isEqualTo(LARGE_ORDER_BATCH);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.items()).allSatisfy(item -> assertThat(item.order().products()).containsExactlyInAnyOrderElementsOf(prepareLines()));
+        assertThat(orderRepository.count()).isEqualTo(2 + SMALL_ORDER_BATCH + LARGE_ORDER_BATCH);
+        // Per JDBC batch of orders: one for the orders, one per product line, one sequence fetch for ids
+        var batches = LARGE_ORDER_BATCH / JDBC_BATCH_SIZE;
+        assertThat(statistics.getPrepareStatementCount())
+                .isLessThanOrEqualTo(statementsForSmallBatch + batches * (prepareLineInputs().size() + 2));
+    }
+
     @Test
     @DisplayName("""
             GIVEN Existed order
@@ -134,25 +287,29 @@ public class OrderServiceIntegrationTest extends BaseTest {
         assertThat(orderRepository.existsById(order.id())).isFalse();
     }
 
-    private List<DbProduct> prepareProducts() {
+    private List<OrderLineInput> prepareLineInputs() {
+        return List.of(new OrderLineInput(PRODUCT_ID_1), new OrderLineInput(PRODUCT_ID_2));
+    }
+
+    private List<OrderLineDto> prepareLines() {
         return List.of(
-                new DbProduct(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_DESCRIPTION, PRODUCT_PRICE_1),
-                new DbProduct(PRODUCT_ID_2, PRODUCT_NAME_2, PRODUCT_DESCRIPTION, PRODUCT_PRICE_2)
+                new OrderLineDto(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1, PRODUCT_QUANTITY),
+                new OrderLineDto(PRODUCT_ID_2, PRODUCT_NAME_2, PRODUCT_PRICE_2, PRODUCT_QUANTITY)
         );
     }
 
-    private OrderDto buildDTO(Long id, OrderStatus status, List<DbProduct> products) {
+    private OrderDto buildDTO(Long id, OrderStatus status, List<OrderLineDto> products) {
         return new OrderDto(id, status, products);
     }
 
     private OrderDto buildDTO() {
-        return buildDTO(ORDER_ID_1, ORDER_STATUS, prepareProducts());
+        return buildDTO(ORDER_ID_1, ORDER_STATUS, prepareLines());
     }
 
     private List<OrderDto> buildDTOs() {
         return List.of(
-                buildDTO(ORDER_ID_1, ORDER_STATUS, prepareProducts()),
-                buildDTO(ORDER_ID_2, ORDER_STATUS, prepareProducts())
+                buildDTO(ORDER_ID_1, ORDER_STATUS, prepareLines()),
+                buildDTO(ORDER_ID_2, ORDER_STATUS, prepareLines())
         );
     }
 }
@@ -1,8 +1,13 @@
 package com.order_manager.service;
 
+import com.order_manager.config.OrderBatchConfig;
+import com.order_manager.config.PaginationConfig;
 import com.order_manager.dto.OrderDto;
 import com.order_manager.dto.OrderInput;
+import com.order_manager.dto.OrderLineDto;
+import com.order_manager.dto.OrderLineInput;
 import com.order_manager.entity.*;
+import com.order_manager.exception.InvalidRequestException;
 import com.order_manager.exception.OrderNotFoundException;
 import com.order_manager.exception.ProductNotFoundException;
 import com.order_manager.exception.UserNotFoundException;
@@ -10,17 +15,21 @@ import com.order_manager.mapper.OrderMapper;
 import com.order_manager.repository.OrderRepository;
 import com.order_manager.repository.ProductRepository;
 import com.order_manager.repository.UserRepository;
+import com.order_manager.repository.projection.OrderLineView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,6 +52,7 @@ public class OrderServiceTest {
     private static final String PRODUCT_DESCRIPTION = "Product Description";
     private static final BigDecimal PRODUCT_PRICE_1 = BigDecimal.ONE;
     private static final BigDecimal PRODUCT_PRICE_2 = BigDecimal.TWO;
+    private static final Long PRODUCT_QUANTITY = 1L;
 
     private static final Long ORDER_ID_1 = 1L;
     private static final Long ORDER_ID_2 = 2L;
@@ -51,6 +61,10 @@ public class OrderServiceTest {
     private static final OrderStatus ORDER_STATUS = OrderStatus.PENDING;
     private static final OrderStatus ORDER_STATUS_NEW = OrderStatus.COMPLETED;
 
+    private static final int PAGE_SIZE = 2;
+    private static final int BATCH_MAX_SIZE = 10;
+    private static final Long UNKNOWN_PRODUCT_ID = 99L;
+
     @Mock
     private OrderRepository orderRepository;
     @Mock
@@ -60,7 +74,15 @@ public class OrderServiceTest {
     @Mock
     private NotificationService notificationService;
     @Mock
+    private OrderCacheService orderCacheService;
+    @Mock
+    private OrderSummaryService orderSummaryService;
+    @Mock
     private OrderMapper orderMapper;
+    @Mock
+    private PaginationConfig paginationConfig;
+    @Mock
+    private OrderBatchConfig orderBatchConfig;
 
     @InjectMocks
     private OrderService orderService;
@@ -75,12 +97,11 @@ public class OrderServiceTest {
         //GIVEN
         var user = prepareUser();
         var products = prepareProducts();
-        var input = new OrderInput(products, ORDER_QUANTITY);
+        var input = new OrderInput(prepareLineInputs(), ORDER_QUANTITY);
         var orderEntity = buildEntity();
-        var expectedOrder = buildResponse(ORDER_ID_NEW, ORDER_STATUS, products);
+        var expectedOrder = buildResponse(ORDER_ID_NEW, ORDER_STATUS);
 
-        when(productRepository.findById(products.getFirst().getId())).thenReturn(Optional.of(products.getFirst()));
-        when(productRepository.findById(products.getLast().getId())).thenReturn(Optional.of(products.getLast()));
+        when(productRepository.findByIdIn(List.of(PRODUCT_ID_1, PRODUCT_ID_2))).thenReturn(products);
         when(userRepository.findByName(USER_NAME)).thenReturn(Optional.of(user));
         when(orderRepository.save(any(DbOrder.class))).thenReturn(orderEntity);
         when(orderMapper.dbToDto(orderEntity)).thenReturn(expectedOrder);
@@ -93,18 +114,44 @@ public class OrderServiceTest {
                 .satisfies(order -> {
                     assertThat(order.id()).isEqualTo(expectedOrder.id());
                     assertThat(order.status()).isEqualTo(expectedOrder.status());
-                    assertThat(order.products().getFirst().getId()).isEqualTo(products.getFirst().getId());
+                    assertThat(order.products().getFirst().id()).isEqualTo(products.getFirst().getId());
                     assertThat(order.products()).hasSize(products.size());
-                    assertThat(order.products()).containsExactlyInAnyOrderElementsOf(products);
+                    assertThat(order.products()).containsExactlyInAnyOrderElementsOf(prepareLines());
                 });
 
-        verify(productRepository, times(products.size())).findById(any());
+        verify(productRepository, times(1)).findByIdIn(List.of(PRODUCT_ID_1, PRODUCT_ID_2));
         verify(userRepository, times(1)).findByName(USER_NAME);
         verify(orderMapper, times(1)).dbToDto(orderEntity);
         verify(orderRepository, times(1)).save(any(DbOrder.class));
+        verify(orderSummaryService, times(1)).recordCreated(any(DbOrder.class));
         verifyNoMoreInteractions(productRepository, userRepository, orderRepository, orderMapper);
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN Input with a quantity for a product line
+            WHEN Creating a new order
+            THEN The order should hold one line with that quantity
+            """)
+    void shouldCreateOrderWithLineQuantity() {
+        //GIVEN
+        var product = prepareProducts().getFirst();
+        var input = new OrderInput(List.of(new OrderLineInput(PRODUCT_ID_1, 2), new OrderLineInput(PRODUCT_ID_1)),
+                ORDER_QUANTITY);
+
+        when(productRepository.findByIdIn(List.of(PRODUCT_ID_1))).thenReturn(List.of(product));
+        when(userRepository.findByName(USER_NAME)).thenReturn(Optional.of(prepareUser()));
+        when(orderRepository.save(any(DbOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.dbToDto(any(DbOrder.class))).thenReturn(buildResponse(ORDER_ID_NEW, ORDER_STATUS));
+
+        //WHEN
+        orderService.createOrder(USER_NAME, input);
+
+        //THEN
+        verify(orderRepository).save(argThat(order -> order.getLines().equals(List.of(new DbOrderLine(product, 3)))
+                && order.getTotalValue().equals(PRODUCT_PRICE_1.multiply(BigDecimal.valueOf(3)))));
+    }
+
     @Test
     @DisplayName("""
             GIVEN Input for creating order
@@ -113,10 +160,10 @@ public class OrderServiceTest {
             """)
     void shouldThrowException_whenProductsNotFound() {
         //GIVEN
-        var input = new OrderInput(prepareProducts(), ORDER_QUANTITY);
+        var input = new OrderInput(prepareLineInputs(), ORDER_QUANTITY);
 
         //WHEN
-        when(productRepository.findById(anyLong())).thenAnswer(_ -> Optional.empty());
+        when(productRepository.findByIdIn(anyCollection())).thenReturn(Collections.emptyList());
 
         //THEN
         assertThatThrownBy(() -> orderService.createOrder(USER_NAME, input))
@@ -124,6 +171,29 @@ public class OrderServiceTest {
                 .hasMessageContaining("No valid products found");
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN Input for creating order
+            WHEN Some of the products don't exist
+            THEN Should throw an exception with all missing ids
+            """)
+    void shouldThrowException_whenSomeProductsNotFound() {
+        //GIVEN
+        var products = prepareProducts();
+        var input = new OrderInput(prepareLineInputs(), ORDER_QUANTITY);
+
+        //WHEN
+        when(productRepository.findByIdIn(anyCollection())).thenReturn(List.of(products.getFirst()));
+
+        //THEN
+        assertThatThrownBy(() -> orderService.createOrder(USER_NAME, input))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining("[" + PRODUCT_ID_2 + "]");
+
+        verify(productRepository, times(1)).findByIdIn(anyCollection());
+        verifyNoInteractions(userRepository, orderRepository);
+    }
+
     @Test
     @DisplayName("""
             GIVEN Input for creating order
@@ -132,9 +202,9 @@ public class OrderServiceTest {
             """)
     void shouldThrowException_whenUserNotFound() {
         //GIVEN
-        var input = new OrderInput(prepareProducts(), ORDER_QUANTITY);
+        var input = new OrderInput(prepareLineInputs(), ORDER_QUANTITY);
 
-        when(productRepository.findById(anyLong())).thenAnswer(_ -> Optional.of(mock(DbProduct.class)));
+        when(productRepository.findByIdIn(anyCollection())).thenReturn(prepareProducts());
 
         //WHEN
         when(userRepository.findByName(USER_NAME)).thenReturn(Optional.empty());
@@ -145,6 +215,88 @@ public class OrderServiceTest {
                 .hasMessageContaining("User '" + USER_NAME + "' not found");
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN Batch with a valid order and an order with an unknown product
+            WHEN Creating the orders in partial mode
+            THEN The valid order should be created and the other one reported as rejected
+            """)
+    void shouldCreateOrdersAndRejectInvalidOnes() {
+        //GIVEN
+        var inputs = List.of(
+                new OrderInput(prepareLineInputs(), ORDER_QUANTITY),
+                new OrderInput(List.of(new OrderLineInput(UNKNOWN_PRODUCT_ID)), ORDER_QUANTITY));
+        var expectedOrder = buildResponse(ORDER_ID_NEW, ORDER_STATUS);
+
+        when(orderBatchConfig.getMaxSize()).thenReturn(BATCH_MAX_SIZE);
+        when(orderBatchConfig.isAllOrNothing()).thenReturn(false);
+        when(userRepository.findByName(USER_NAME)).thenReturn(Optional.of(prepareUser()));
+        when(productRepository.findByIdIn(anyCollection())).thenReturn(prepareProducts());
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.dbToDto(any(DbOrder.class))).thenReturn(expectedOrder);
+
+        //WHEN
+        var result = orderService.createOrders(USER_NAME, inputs);
+
+        //THEN
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(result.items()).hasSize(2)
+                .satisfiesExactly(
+                        item -> assertThat(item.order()).isEqualTo(expectedOrder),
+                        item -> assertThat(item.error()).contains("[" + UNKNOWN_PRODUCT_ID + "]"));
+
+        verify(userRepository, times(1)).findByName(USER_NAME);
+        verify(productRepository, times(1)).findByIdIn(anyCollection());
+        verify(orderRepository).saveAll(argThat((List<DbOrder> orders) -> orders.size() == 1));
+        verify(orderSummaryService, times(1)).recordCreated(anyList());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Batch with an order with an unknown product
+            WHEN Creating the orders in all-or-nothing mode
+            THEN Should throw an exception and create nothing
+            """)
+    void shouldThrowException_whenBatchHasInvalidOrderInAllOrNothingMode() {
+        //GIVEN
+        var inputs = List.of(
+                new OrderInput(prepareLineInputs(), ORDER_QUANTITY),
+                new OrderInput(List.of(new OrderLineInput(UNKNOWN_PRODUCT_ID)), ORDER_QUANTITY));
+
+        when(orderBatchConfig.getMaxSize()).thenReturn(BATCH_MAX_SIZE);
+        when(orderBatchConfig.isAllOrNothing()).thenReturn(true);
+        when(userRepository.findByName(USER_NAME)).thenReturn(Optional.of(prepareUser()));
+        when(productRepository.findByIdIn(anyCollection())).thenReturn(prepareProducts());
+
+        //THEN
+        assertThatThrownBy(() -> orderService.createOrders(USER_NAME, inputs))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Order #1");
+
+        verifyNoInteractions(orderRepository, orderSummaryService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Batch larger than the configured maximum
+            WHEN Creating the orders
+            THEN Should throw an exception before touching the database
+            """)
+    void shouldThrowException_whenBatchTooLarge() {
+        //GIVEN
+        var inputs = Collections.nCopies(BATCH_MAX_SIZE + 1, new OrderInput(prepareLineInputs(), ORDER_QUANTITY));
+
+        when(orderBatchConfig.getMaxSize()).thenReturn(BATCH_MAX_SIZE);
+
+        //THEN
+        assertThatThrownBy(() -> orderService.createOrders(USER_NAME, inputs))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining(String.valueOf(BATCH_MAX_SIZE));
+
+        verifyNoInteractions(userRepository, productRepository, orderRepository);
+    }
+
     @Test
     @DisplayName("""
             GIVEN List of the orders for user
@@ -153,17 +305,22 @@ public class OrderServiceTest {
             """)
     void shouldGetOrdersByUsername() {
         //GIVEN
-        var orderEntities = buildEntities();
+        var orderIds = List.of(ORDER_ID_1, ORDER_ID_2);
         var expectedOrders = buildResponses();
 
-        when(orderRepository.findByUserName(USER_NAME)).thenReturn(orderEntities);
-        when(orderMapper.dbToDto(orderEntities.getFirst())).thenReturn(expectedOrders.getFirst());
-        when(orderMapper.dbToDto(orderEntities.getLast())).thenReturn(expectedOrders.getLast());
+        when(paginationConfig.getDefaultSize()).thenReturn(PAGE_SIZE);
+        when(orderRepository.findIdsByUserName(USER_NAME, 0L, Limit.of(PAGE_SIZE + 1))).thenReturn(orderIds);
+        when(orderRepository.findLinesByOrderIdIn(orderIds)).thenReturn(buildViews());
+        when(orderMapper.viewsToDto(buildViews(ORDER_ID_1))).thenReturn(expectedOrders.getFirst());
+        when(orderMapper.viewsToDto(buildViews(ORDER_ID_2))).thenReturn(expectedOrders.getLast());
 
         //WHEN
-        var actualOrders = orderService.getOrdersByUsername(USER_NAME);
+        var actualPage = orderService.getOrdersByUsername(USER_NAME, null, null);
 
         //THEN
+        assertThat(actualPage.nextCursor()).isNull();
+
+        var actualOrders = actualPage.orders();
         assertThat(actualOrders)
                 .hasSize(expectedOrders.size())
                 .containsExactlyInAnyOrderElementsOf(expectedOrders);
@@ -174,17 +331,88 @@ public class OrderServiceTest {
                     assertThat(order.status()).isEqualTo(expectedOrders.getFirst().status());
                     assertThat(order.products()).hasSize(expectedOrders.getFirst().products().size());
                     assertThat(order.products()).containsExactlyInAnyOrderElementsOf(expectedOrders.getFirst().products());
-                    assertThat(order.products().getFirst().getId()).isEqualTo(expectedOrders.getFirst().products().getFirst().getId());
-                    assertThat(order.products().getFirst().getName()).isEqualTo(expectedOrders.getFirst().products().getFirst().getName());
-                    assertThat(order.products().getFirst().getDescription()).isEqualTo(expectedOrders.getFirst().products().getFirst().getDescription());
-                    assertThat(order.products().getFirst().getPrice()).isEqualTo(expectedOrders.getFirst().products().getFirst().getPrice());
+                    assertThat(order.products().getFirst().id()).isEqualTo(expectedOrders.getFirst().products().getFirst().id());
+                    assertThat(order.products().getFirst().name()).isEqualTo(expectedOrders.getFirst().products().getFirst().name());
+                    assertThat(order.products().getFirst().unitPrice()).isEqualTo(expectedOrders.getFirst().products().getFirst().unitPrice());
+                    assertThat(order.products().getFirst().quantity()).isEqualTo(expectedOrders.getFirst().products().getFirst().quantity());
                 });
 
-        verify(orderRepository, times(1)).findByUserName(USER_NAME);
-        verify(orderMapper, times(orderEntities.size())).dbToDto(any());
+        verify(orderRepository, times(1)).findIdsByUserName(USER_NAME, 0L, Limit.of(PAGE_SIZE + 1));
+        verify(orderRepository, times(1)).findLinesByOrderIdIn(orderIds);
+        verify(orderMapper, times(orderIds.size())).viewsToDto(any());
         verifyNoMoreInteractions(orderRepository, orderMapper);
     }
 
+    @Test
+    @DisplayName("""
+            GIVEN More orders for user than the requested page size
+            WHEN Fetching a page of the orders
+            THEN Should return the page and a cursor for the next one
+            """)
+    void shouldGetOrdersPageWithNextCursor() {
+        //GIVEN
+        var expectedOrders = buildResponses();
+
+        when(paginationConfig.getMaxSize()).thenReturn(PAGE_SIZE);
+        when(orderRepository.findIdsByUserName(USER_NAME, 0L, Limit.of(2))).thenReturn(List.of(ORDER_ID_1, ORDER_ID_2));
+        when(orderRepository.findLinesByOrderIdIn(List.of(ORDER_ID_1))).thenReturn(buildViews(ORDER_ID_1));
+        when(orderMapper.viewsToDto(buildViews(ORDER_ID_1))).thenReturn(expectedOrders.getFirst());
+
+        //WHEN
+        var actualPage = orderService.getOrdersByUsername(USER_NAME, null, 1);
+
+        //THEN
+        assertThat(actualPage.orders()).containsExactly(expectedOrders.getFirst());
+        assertThat(actualPage.nextCursor()).isEqualTo(ORDER_ID_1);
+
+        verify(orderMapper, times(1)).viewsToDto(any());
+        verifyNoMoreInteractions(orderMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Requested page size above the configured maximum
+            WHEN Fetching a page of the orders
+            THEN Page size should be capped
+            """)
+    void shouldCapPageSize() {
+        //GIVEN
+        when(paginationConfig.getMaxSize()).thenReturn(PAGE_SIZE);
+        when(orderRepository.findIdsByUserName(USER_NAME, ORDER_ID_1, Limit.of(PAGE_SIZE + 1)))
+                .thenReturn(Collections.emptyList());
+
+        //WHEN
+        var actualPage = orderService.getOrdersByUsername(USER_NAME, ORDER_ID_1, PAGE_SIZE * 10);
+
+        //THEN
+        assertThat(actualPage.orders()).isEmpty();
+        assertThat(actualPage.nextCursor()).isNull();
+
+        verify(orderRepository, never()).findLinesByOrderIdIn(any());
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Orders for user
+            WHEN Streaming the orders
+            THEN Every order should be passed to the consumer
+            """)
+    void shouldStreamOrdersByUsername() {
+        //GIVEN
+        var expectedOrders = buildResponses();
+        var actualOrders = new ArrayList<OrderDto>();
+
+        when(orderRepository.streamLinesByUserName(USER_NAME)).thenReturn(buildViews().stream());
+        when(orderMapper.viewsToDto(buildViews(ORDER_ID_1))).thenReturn(expectedOrders.getFirst());
+        when(orderMapper.viewsToDto(buildViews(ORDER_ID_2))).thenReturn(expectedOrders.getLast());
+
+        //WHEN
+        orderService.streamOrdersByUsername(USER_NAME, actualOrders::add);
+
+        //THEN
+        assertThat(actualOrders).containsExactlyElementsOf(expectedOrders);
+    }
+
     @Test
     @DisplayName("""
             GIVEN Existing order
@@ -193,14 +421,14 @@ public class OrderServiceTest {
             """)
     void shouldGetOrder() {
         //GIVEN
-        var orderEntity = buildEntity();
-        var expectedOrder = buildResponse(ORDER_ID_1, ORDER_STATUS, prepareProducts());
+        var views = buildViews(ORDER_ID_1);
+        var expectedOrder = buildResponse(ORDER_ID_1, ORDER_STATUS);
 
-        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
-        when(orderMapper.dbToDto(orderEntity)).thenReturn(expectedOrder);
+        when(orderRepository.findLinesByOrderIdIn(List.of(ORDER_ID_1))).thenReturn(views);
+        when(orderMapper.viewsToDto(views)).thenReturn(expectedOrder);
 
         //WHEN
-        var actualOrder = orderService.getOrder(orderEntity.getId());
+        var actualOrder = orderService.getOrder(ORDER_ID_1);
 
         //THEN
         assertThat(actualOrder)
@@ -209,15 +437,55 @@ public class OrderServiceTest {
                     assertThat(order.status()).isEqualTo(expectedOrder.status());
                     assertThat(order.products()).hasSize(expectedOrder.products().size());
                     assertThat(order.products()).containsExactlyInAnyOrderElementsOf(expectedOrder.products());
-                    assertThat(order.products().getFirst().getId()).isEqualTo(expectedOrder.products().getFirst().getId());
-                    assertThat(order.products().getFirst().getName()).isEqualTo(expectedOrder.products().getFirst().getName());
-                    assertThat(order.products().getFirst().getDescription()).isEqualTo(expectedOrder.products().getFirst().getDescription());
-                    assertThat(order.products().getFirst().getPrice()).isEqualTo(expectedOrder.products().getFirst().getPrice());
+                    assertThat(order.products().getFirst().id()).isEqualTo(expectedOrder.products().getFirst().id());
+                    assertThat(order.products().getFirst().name()).isEqualTo(expectedOrder.products().getFirst().name());
+                    assertThat(order.products().getFirst().unitPrice()).isEqualTo(expectedOrder.products().getFirst().unitPrice());
+                    assertThat(order.products().getFirst().quantity()).isEqualTo(expectedOrder.products().getFirst().quantity());
                 });
 
-        verify(orderRepository, times(1)).findById(orderEntity.getId());
-        verify(orderMapper, times(1)).dbToDto(orderEntity);
-        verifyNoMoreInteractions(orderRepository, orderMapper, notificationService);
+        verify(orderCacheService, times(1)).getCachedOrder(ORDER_ID_1);
+        verify(orderRepository, times(1)).findLinesByOrderIdIn(List.of(ORDER_ID_1));
+        verify(orderMapper, times(1)).viewsToDto(views);
+        verify(orderCacheService, times(1)).cacheOrder(expectedOrder);
+        verifyNoMoreInteractions(orderRepository, orderMapper, notificationService, orderCacheService);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Cached order
+            WHEN Fetching the order
+            THEN The cached order should be returned without DB access
+            """)
+    void shouldGetOrderFromCache() {
+        //GIVEN
+        var expectedOrder = buildResponse(ORDER_ID_1, ORDER_STATUS);
+
+        when(orderCacheService.getCachedOrder(ORDER_ID_1)).thenReturn(Optional.of(expectedOrder));
+
+        //WHEN
+        var actualOrder = orderService.getOrder(ORDER_ID_1);
+
+        //THEN
+        assertThat(actualOrder).isEqualTo(expectedOrder);
+
+        verify(orderCacheService, times(1)).getCachedOrder(ORDER_ID_1);
+        verifyNoInteractions(orderRepository, orderMapper);
+        verifyNoMoreInteractions(orderCacheService);
+    }
+
+    @Test
+    @DisplayName("""
+            WHEN Fetching an order that doesn't exist
+            THEN Should throw an exception
+            """)
+    void shouldThrowException_whenFetchedOrderNotFound() {
+        //WHEN
+        when(orderRepository.findLinesByOrderIdIn(List.of(ORDER_ID_1))).thenReturn(Collections.emptyList());
+
+        //THEN
+        assertThatThrownBy(() -> orderService.getOrder(ORDER_ID_1))
+                .isInstanceOf(OrderNotFoundException.class)
+                .hasMessageContaining("Order with id #" + ORDER_ID_1 + " not found");
     }
 
     @Test
@@ -229,9 +497,9 @@ public class OrderServiceTest {
     void shouldUpdateOrderStatus() {
         //GIVEN
         var orderEntity = buildEntity();
-        var expectedOrder = buildResponse(ORDER_ID_1, ORDER_STATUS_NEW, prepareProducts());
+        var expectedOrder = buildResponse(ORDER_ID_1, ORDER_STATUS_NEW);
 
-        when(orderRepository.findById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
+        when(orderRepository.findDetailedById(orderEntity.getId())).thenReturn(Optional.of(orderEntity));
         when(orderRepository.save(orderEntity)).thenReturn(orderEntity);
         when(orderMapper.dbToDto(orderEntity)).thenReturn(expectedOrder);
 
@@ -245,17 +513,19 @@ public class OrderServiceTest {
                     assertThat(order.status()).isEqualTo(expectedOrder.status());
                     assertThat(order.products()).hasSize(expectedOrder.products().size());
                     assertThat(order.products()).containsExactlyInAnyOrderElementsOf(expectedOrder.products());
-                    assertThat(order.products().getFirst().getId()).isEqualTo(expectedOrder.products().getFirst().getId());
-                    assertThat(order.products().getFirst().getName()).isEqualTo(expectedOrder.products().getFirst().getName());
-                    assertThat(order.products().getFirst().getDescription()).isEqualTo(expectedOrder.products().getFirst().getDescription());
-                    assertThat(order.products().getFirst().getPrice()).isEqualTo(expectedOrder.products().getFirst().getPrice());
+                    assertThat(order.products().getFirst().id()).isEqualTo(expectedOrder.products().getFirst().id());
+                    assertThat(order.products().getFirst().name()).isEqualTo(expectedOrder.products().getFirst().name());
+                    assertThat(order.products().getFirst().unitPrice()).isEqualTo(expectedOrder.products().getFirst().unitPrice());
+                    assertThat(order.products().getFirst().quantity()).isEqualTo(expectedOrder.products().getFirst().quantity());
                 });
 
-        verify(orderRepository, times(1)).findById(orderEntity.getId());
+        verify(orderRepository, times(1)).findDetailedById(orderEntity.getId());
         verify(orderRepository, times(1)).save(orderEntity);
         verify(orderMapper, times(1)).dbToDto(orderEntity);
+        verify(orderCacheService, times(1)).evictOrder(orderEntity.getId());
         verify(notificationService, times(1))
                 .sendOrderStatusChangeNotification(orderEntity.getUser().getEmail(), orderEntity.getId(), ORDER_STATUS_NEW);
+        verify(orderSummaryService, times(1)).recordStatusChange(orderEntity, ORDER_STATUS);
         verifyNoMoreInteractions(orderRepository, orderMapper, notificationService);
     }
 
@@ -266,7 +536,7 @@ public class OrderServiceTest {
             """)
     void shouldThrowException_whenOrderNotFound() {
         //WHEN
-        when(orderRepository.findById(ORDER_ID_1)).thenReturn(Optional.empty());
+        when(orderRepository.findDetailedById(ORDER_ID_1)).thenReturn(Optional.empty());
 
         //THEN
         assertThatThrownBy(() -> orderService.updateOrderStatus(ORDER_ID_1, ORDER_STATUS_NEW))
@@ -284,15 +554,17 @@ public class OrderServiceTest {
         //GIVEN
         var dbOrder = buildEntity();
 
-        when(orderRepository.findById(dbOrder.getId())).thenReturn(Optional.of(dbOrder));
-        doNothing().when(orderRepository).deleteById(dbOrder.getId());
+        when(orderRepository.findDetailedById(dbOrder.getId())).thenReturn(Optional.of(dbOrder));
+        doNothing().when(orderRepository).delete(dbOrder);
 
         //WHEN
         orderService.deleteOrder(dbOrder.getId());
 
         //THEN
-        verify(orderRepository, times(1)).findById(dbOrder.getId());
-        verify(orderRepository, times(1)).deleteById(dbOrder.getId());
+        verify(orderRepository, times(1)).findDetailedById(dbOrder.getId());
+        verify(orderRepository, times(1)).delete(dbOrder);
+        verify(orderSummaryService, times(1)).recordDeleted(dbOrder);
+        verify(orderCacheService, times(1)).evictOrder(dbOrder.getId());
         verifyNoMoreInteractions(orderRepository);
     }
 
@@ -303,7 +575,7 @@ public class OrderServiceTest {
             """)
     void shouldThrowException_whenOrderDoesNotExist() {
         //WHEN
-        when(orderRepository.findById(ORDER_ID_1)).thenReturn(Optional.empty());
+        when(orderRepository.findDetailedById(ORDER_ID_1)).thenReturn(Optional.empty());
 
         //THEN
         assertThatThrownBy(() -> orderService.deleteOrder(ORDER_ID_1))
@@ -322,28 +594,49 @@ public class OrderServiceTest {
         );
     }
 
+    private List<OrderLineInput> prepareLineInputs() {
+        return List.of(new OrderLineInput(PRODUCT_ID_1), new OrderLineInput(PRODUCT_ID_2));
+    }
+
+    private List<OrderLineDto> prepareLines() {
+        return List.of(
+                new OrderLineDto(PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1, PRODUCT_QUANTITY),
+                new OrderLineDto(PRODUCT_ID_2, PRODUCT_NAME_2, PRODUCT_PRICE_2, PRODUCT_QUANTITY)
+        );
+    }
+
     private DbOrder buildEntity(Long id, DbUser user, List<DbProduct> products) {
-        return new DbOrder(id, user, products, ORDER_QUANTITY, ORDER_STATUS);
+        var lines = products.stream()
+                .map(product -> new DbOrderLine(product, PRODUCT_QUANTITY.intValue()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        return new DbOrder(id, user, lines, ORDER_QUANTITY, ORDER_STATUS, PRODUCT_PRICE_1.add(PRODUCT_PRICE_2));
     }
 
     private DbOrder buildEntity() {
         return buildEntity(ORDER_ID_1, prepareUser(), prepareProducts());
     }
 
-    private List<DbOrder> buildEntities () {
+    private List<OrderLineView> buildViews(Long orderId) {
         return List.of(
-                buildEntity(ORDER_ID_1, prepareUser(), prepareProducts()),
-                buildEntity(ORDER_ID_2, prepareUser(), prepareProducts()));
+                new OrderLineView(orderId, ORDER_STATUS, PRODUCT_ID_1, PRODUCT_NAME_1, PRODUCT_PRICE_1, PRODUCT_QUANTITY),
+                new OrderLineView(orderId, ORDER_STATUS, PRODUCT_ID_2, PRODUCT_NAME_2, PRODUCT_PRICE_2, PRODUCT_QUANTITY)
+        );
+    }
+
+    private List<OrderLineView> buildViews() {
+        var views = new ArrayList<>(buildViews(ORDER_ID_1));
+        views.addAll(buildViews(ORDER_ID_2));
+        return views;
     }
 
-    private OrderDto buildResponse(Long id, OrderStatus status, List<DbProduct> products) {
-        return new OrderDto(id, status, products);
+    private OrderDto buildResponse(Long id, OrderStatus status) {
+        return new OrderDto(id, status, prepareLines());
     }
 
     private List<OrderDto> buildResponses() {
         return List.of(
-                buildResponse(ORDER_ID_1, ORDER_STATUS, prepareProducts()),
-                buildResponse(ORDER_ID_2, ORDER_STATUS, prepareProducts())
+                buildResponse(ORDER_ID_1, ORDER_STATUS),
+                buildResponse(ORDER_ID_2, ORDER_STATUS)
         );
     }
 }
@@ -0,0 +1,143 @@
+package com.order_manager.service;
+
+import com.order_manager.BaseTest;
+import com.order_manager.dto.OrderInput;
+import com.order_manager.dto.OrderLineInput;
+import com.order_manager.dto.OrderStatusSummaryDto;
+import com.order_manager.dto.ProductInput;
+import com.order_manager.entity.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Integration tests for OrderSummaryService")
+public class OrderSummaryServiceIntegrationTest extends BaseTest {
+
+    private static final String USER_NAME = "Name_1";
+    private static final String USER_NAME_WITHOUT_ORDERS = "Name_2";
+
+    private static final Long PRODUCT_ID_1 = 1L;
+    private static final Long PRODUCT_ID_2 = 2L;
+    private static final String PRODUCT_NAME_1 = "Product_1";
+    private static final String PRODUCT_DESCRIPTION = "Product description long enough to pass input validation";
+    private static final BigDecimal NEW_PRICE = BigDecimal.valueOf(100);
+    private static final BigDecimal ORDER_VALUE = BigDecimal.valueOf(3);
+
+    private static final Long ORDER_ID_1 = 1L;
+    private static final Long ORDER_ID_2 = 2L;
+    private static final Integer ORDER_QUANTITY = 1;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("""
+            GIVEN Orders inserted by the test data migration
+            WHEN Fetching the order summary of the user
+            THEN Backfilled counts and totals should be returned
+            """)
+    public void shouldReturnBackfilledSummary() {
+        //WHEN
+        var summary = orderSummaryService.getSummary(USER_NAME);
+
+        //THEN
+        assertThat(summary.orderCount()).isEqualTo(2);
+        assertThat(summary.totalValue()).isEqualByComparingTo(ORDER_VALUE.multiply(BigDecimal.TWO));
+        assertThat(summary.byStatus()).singleElement()
+                .satisfies(row -> assertStatus(row, OrderStatus.PENDING, 2, ORDER_VALUE.multiply(BigDecimal.TWO)));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Existing pending order
+            WHEN Completing the order
+            THEN Its count and value should move to the completed bucket
+            """)
+    public void shouldMoveOrderBetweenStatuses() {
+        //WHEN
+        orderService.updateOrderStatus(ORDER_ID_1, OrderStatus.COMPLETED);
+
+        //THEN
+        var summary = orderSummaryService.getSummary(USER_NAME);
+        assertThat(summary.orderCount()).isEqualTo(2);
+        assertThat(summary.byStatus()).hasSize(2)
+                .anySatisfy(row -> assertStatus(row, OrderStatus.PENDING, 1, ORDER_VALUE))
+                .anySatisfy(row -> assertStatus(row, OrderStatus.COMPLETED, 1, ORDER_VALUE));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Existing orders
+            WHEN Creating one order and deleting another
+            THEN The summary should reflect both changes
+            """)
+    public void shouldTrackCreatedAndDeletedOrders() {
+        //GIVEN
+        var input = new OrderInput(List.of(new OrderLineInput(PRODUCT_ID_1), new OrderLineInput(PRODUCT_ID_2)), ORDER_QUANTITY);
+
+        //WHEN
+        orderService.createOrder(USER_NAME, input);
+        orderService.createOrder(USER_NAME, input);
+        orderService.deleteOrder(ORDER_ID_1);
+
+        //THEN
+        var summary = orderSummaryService.getSummary(USER_NAME);
+        assertThat(summary.orderCount()).isEqualTo(3);
+        assertThat(summary.totalValue()).isEqualByComparingTo(ORDER_VALUE.multiply(BigDecimal.valueOf(3)));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Existing orders and a product whose price changed afterwards
+            WHEN Completing one order and deleting the other
+            THEN The summary should move and remove the orders' original values
+            """)
+    public void shouldKeepOriginalValues_whenPriceChanges() {
+        //GIVEN
+        productService.updateProduct(PRODUCT_ID_1, new ProductInput(PRODUCT_NAME_1, PRODUCT_DESCRIPTION, NEW_PRICE));
+
+        //WHEN
+        orderService.updateOrderStatus(ORDER_ID_1, OrderStatus.COMPLETED);
+        orderService.deleteOrder(ORDER_ID_2);
+
+        //THEN
+        var summary = orderSummaryService.getSummary(USER_NAME);
+        assertThat(summary.orderCount()).isEqualTo(1);
+        assertThat(summary.totalValue()).isEqualByComparingTo(ORDER_VALUE);
+        assertThat(summary.byStatus()).singleElement()
+                .satisfies(row -> assertStatus(row, OrderStatus.COMPLETED, 1, ORDER_VALUE));
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN User without orders
+            WHEN Fetching the order summary
+            THEN An empty summary should be returned
+            """)
+    public void shouldReturnEmptySummary() {
+        //WHEN
+        var summary = orderSummaryService.getSummary(USER_NAME_WITHOUT_ORDERS);
+
+        //THEN
+        assertThat(summary.orderCount()).isZero();
+        assertThat(summary.totalValue()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(summary.byStatus()).isEmpty();
+    }
+
+    private static void assertStatus(OrderStatusSummaryDto row, OrderStatus status, long count, BigDecimal value) {
+        assertThat(row.status()).isEqualTo(status);
+        assertThat(row.orderCount()).isEqualTo(count);
+        assertThat(row.totalValue()).isEqualByComparingTo(value);
+    }
+}
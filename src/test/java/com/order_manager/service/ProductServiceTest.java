@@ -1,8 +1,10 @@
 package com.order_manager.service;
 
-import com.order_manager.client.ProductClient;
+import com.order_manager.catalog.ProductCatalog;
+import com.order_manager.config.ProductBulkConfig;
 import com.order_manager.dto.ProductInput;
 import com.order_manager.dto.ProductDto;
+import com.order_manager.exception.InvalidRequestException;
 import com.order_manager.exception.ProductExistException;
 import com.order_manager.exception.ProductNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
@@ -39,7 +42,9 @@ public class ProductServiceTest {
     private static final BigDecimal PRODUCT_PRICE_NEW = BigDecimal.TEN;
 
     @Mock
-    private ProductClient productClient;
+    private ProductCatalog productCatalog;
+    @Mock
+    private ProductBulkConfig productBulkConfig;
 
     @InjectMocks
     private ProductService productService;
@@ -55,7 +60,7 @@ public class ProductServiceTest {
         var input = new ProductInput(PRODUCT_NAME_NEW, PRODUCT_DESCRIPTION_NEW, PRODUCT_PRICE_NEW);
         var createdProduct = prepareProduct(PRODUCT_ID_NEW, PRODUCT_NAME_NEW, PRODUCT_PRICE_NEW);
 
-        when(productClient.createProduct(input)).thenReturn(createdProduct);
+        when(productCatalog.createProduct(input)).thenReturn(Optional.of(createdProduct));
 
         //WHEN
         var actualProduct = productService.createProduct(input);
@@ -68,8 +73,8 @@ public class ProductServiceTest {
                     assertThat(product.price()).isEqualTo(createdProduct.price());
                 });
 
-        verify(productClient, times(1)).createProduct(input);
-        verifyNoMoreInteractions(productClient);
+        verify(productCatalog, times(1)).createProduct(input);
+        verifyNoMoreInteractions(productCatalog);
     }
 
     @Test
@@ -83,7 +88,7 @@ public class ProductServiceTest {
         var input = new ProductInput(PRODUCT_NAME_NEW, PRODUCT_DESCRIPTION_NEW, PRODUCT_PRICE_NEW);
 
         //WHEN
-        when(productClient.createProduct(input)).thenReturn(null);
+        when(productCatalog.createProduct(input)).thenReturn(Optional.empty());
 
         //THEN
         assertThatThrownBy(() -> productService.createProduct(input))
@@ -101,7 +106,7 @@ public class ProductServiceTest {
         //GIVEN
         var expectedProducts = prepareProducts();
 
-        when(productClient.getAllProducts()).thenReturn(expectedProducts);
+        when(productCatalog.getAllProducts()).thenReturn(expectedProducts);
 
         //WHEN
         var actualProducts = productService.getAllProducts();
@@ -117,8 +122,8 @@ public class ProductServiceTest {
                     assertThat(product.price()).isEqualTo(expectedProducts.getFirst().price());
                 });
 
-        verify(productClient, times(1)).getAllProducts();
-        verifyNoMoreInteractions(productClient);
+        verify(productCatalog, times(1)).getAllProducts();
+        verifyNoMoreInteractions(productCatalog);
     }
 
     @Test
@@ -128,7 +133,7 @@ public class ProductServiceTest {
             """)
     void shouldThrowException_whenAllProductsNotFound() {
         //WHEN
-        when(productClient.getAllProducts()).thenReturn(Collections.emptyList());
+        when(productCatalog.getAllProducts()).thenReturn(Collections.emptyList());
 
         //THEN
         assertThatThrownBy(() -> productService.getAllProducts())
@@ -146,7 +151,7 @@ public class ProductServiceTest {
         //GIVEN
         var expectedProduct = prepareProduct();
 
-        when(productClient.getProduct(expectedProduct.id())).thenReturn(expectedProduct);
+        when(productCatalog.getProduct(expectedProduct.id())).thenReturn(Optional.of(expectedProduct));
 
         //WHEN
         ProductDto actualProduct = productService.getProduct(expectedProduct.id());
@@ -159,8 +164,49 @@ public class ProductServiceTest {
                     assertThat(product.price()).isEqualTo(expectedProduct.price());
                 });
 
-        verify(productClient, times(1)).getProduct(expectedProduct.id());
-        verifyNoMoreInteractions(productClient);
+        verify(productCatalog, times(1)).getProduct(expectedProduct.id());
+        verifyNoMoreInteractions(productCatalog);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN Existing products
+            WHEN Fetching products by ids with duplicates
+            THEN Products should be fetched with one bulk call for the distinct ids
+            """)
+    void shouldGetProductsByIds() {
+        //GIVEN
+        var expectedProducts = prepareProducts();
+        var ids = List.of(PRODUCT_ID_1, PRODUCT_ID_2);
+
+        when(productBulkConfig.getMaxIds()).thenReturn(2);
+        when(productCatalog.getProducts(ids)).thenReturn(expectedProducts);
+
+        //WHEN
+        var actualProducts = productService.getProducts(List.of(PRODUCT_ID_1, PRODUCT_ID_2, PRODUCT_ID_1));
+
+        //THEN
+        assertThat(actualProducts).containsExactlyElementsOf(expectedProducts);
+        verify(productCatalog, times(1)).getProducts(ids);
+        verifyNoMoreInteractions(productCatalog);
+    }
+
+    @Test
+    @DisplayName("""
+            GIVEN More ids than the configured limit
+            WHEN Fetching products by ids
+            THEN InvalidRequestException should be thrown
+            """)
+    void shouldThrowException_whenTooManyIds() {
+        //GIVEN
+        when(productBulkConfig.getMaxIds()).thenReturn(1);
+
+        //WHEN
+        //THEN
+        assertThatThrownBy(() -> productService.getProducts(List.of(PRODUCT_ID_1, PRODUCT_ID_2)))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("At most 1 product ids");
+        verifyNoMoreInteractions(productCatalog);
     }
 
     @Test
@@ -175,7 +221,7 @@ public class ProductServiceTest {
         var input = new ProductInput(PRODUCT_NAME_NEW, PRODUCT_DESCRIPTION_NEW, PRODUCT_PRICE_NEW);
         var updatedProduct = prepareProduct(PRODUCT_ID_1, PRODUCT_NAME_NEW, PRODUCT_PRICE_NEW);
 
-        when(productClient.updateProduct(oldProduct.id(), input)).thenReturn(updatedProduct);
+        when(productCatalog.updateProduct(oldProduct.id(), input)).thenReturn(Optional.of(updatedProduct));
 
         //WHEN
         ProductDto actualProduct = productService.updateProduct(oldProduct.id(), input);
@@ -188,8 +234,8 @@ public class ProductServiceTest {
                     assertThat(product.price()).isEqualTo(updatedProduct.price());
                 });
 
-        verify(productClient).updateProduct(oldProduct.id(), input);
-        verifyNoMoreInteractions(productClient);
+        verify(productCatalog).updateProduct(oldProduct.id(), input);
+        verifyNoMoreInteractions(productCatalog);
     }
 
     @Test
@@ -202,14 +248,14 @@ public class ProductServiceTest {
         //GIVEN
         var product = prepareProduct();
 
-        when(productClient.getProduct(product.id())).thenReturn(product);
+        when(productCatalog.deleteProduct(product.id())).thenReturn(true);
 
         //WHEN
         productService.deleteProduct(product.id());
 
         //THEN
-        verify(productClient, times(1)).deleteProduct(product.id());
-        verifyNoMoreInteractions(productClient);
+        verify(productCatalog, times(1)).deleteProduct(product.id());
+        verifyNoMoreInteractions(productCatalog);
     }
 
     @Test
@@ -223,7 +269,7 @@ public class ProductServiceTest {
         var product = prepareProduct();
 
         //WHEN
-        when(productClient.getProduct(product.id())).thenReturn(null);
+        when(productCatalog.getProduct(product.id())).thenReturn(Optional.empty());
 
         //THEN
         assertThatThrownBy(() -> productService.getProduct(product.id()))
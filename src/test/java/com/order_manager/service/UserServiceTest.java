@@ -6,6 +6,7 @@ import com.order_manager.entity.DbUser;
 import com.order_manager.entity.UserRole;
 import com.order_manager.mapper.UserMapper;
 import com.order_manager.repository.UserRepository;
+import com.order_manager.security.JwtPrincipalResolver;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +48,8 @@ public class UserServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private JwtPrincipalResolver principalResolver;
     @InjectMocks
     private UserService userService;
 
@@ -184,7 +187,8 @@ public class UserServiceTest {
         verify(passwordEncoder, times(1)).encode(input.password());
         verify(userMapper, times(1)).dbToDto(any());
         verify(userRepository, times(1)).save(any(DbUser.class));
-        verifyNoMoreInteractions(userRepository, passwordEncoder, userMapper);
+        verify(principalResolver, times(1)).evict(oldUser.getName());
+        verifyNoMoreInteractions(userRepository, passwordEncoder, userMapper, principalResolver);
     }
 
     @Test
@@ -205,7 +209,8 @@ public class UserServiceTest {
         // THEN
         verify(userRepository, times(1)).findById(user.getId());
         verify(userRepository, times(1)).delete(user);
-        verifyNoMoreInteractions(userRepository);
+        verify(principalResolver, times(1)).evict(user.getName());
+        verifyNoMoreInteractions(userRepository, principalResolver);
     }
 
     private DbUser buildEntity(Long id, String name, String email) {
@@ -1,17 +1,20 @@
-INSERT INTO users (name, password, role, email) VALUES
-('Name_1', 'Password', 'USER', 'email_1@example.com'),
-('Name_2', 'Password', 'USER', 'email_2@example.com');
+INSERT INTO users (id, name, password, role, email) VALUES
+(1, 'Name_1', 'Password', 'USER', 'email_1@example.com'),
+(2, 'Name_2', 'Password', 'USER', 'email_2@example.com');
 
 INSERT INTO products (id, name, description, price) VALUES
 (1, 'Product_1', 'Product Description', 1),
 (2, 'Product_2', 'Product Description', 2);
 
-INSERT INTO orders (quantity, user_id, status) VALUES
-(1,1,'PENDING'),
-(1,1,'PENDING');
+INSERT INTO orders (id, quantity, user_id, status, total_value) VALUES
+(1,1,1,'PENDING',3),
+(2,1,1,'PENDING',3);
 
-INSERT INTO order_products (order_id, product_id) VALUES
-(1, 1),
-(1, 2),
-(2, 1),
-(2, 2);
+INSERT INTO order_products (order_id, product_id, line_no, quantity) VALUES
+(1, 1, 0, 1),
+(1, 2, 1, 1),
+(2, 1, 0, 1),
+(2, 2, 1, 1);
+
+SELECT setval('users_seq', (SELECT MAX(id) FROM users) + 1, false);
+SELECT setval('orders_seq', (SELECT MAX(id) FROM orders) + 1, false);
@@ -0,0 +1,5 @@
+INSERT INTO order_summary (user_id, status, order_count, total_value)
+SELECT user_id, status, COUNT(*), SUM(total_value)
+FROM orders
+WHERE status IS NOT NULL
+GROUP BY user_id, status;